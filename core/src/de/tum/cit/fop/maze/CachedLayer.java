@@ -0,0 +1,115 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/**
+ * A rectangle of HUD drawn once into a FrameBuffer, which is then drawn in its place every frame
+ * with a single quad, until the layer is invalidated.
+ *
+ * <p>The FrameBuffer holds premultiplied alpha, so that translucent and additive drawing into it
+ * composes with the screen exactly as if it had been drawn there directly. Between begin() and
+ * end(), blending must therefore be set with blendOver() and blendAdditive() instead of
+ * setBlendFunction(); draw() tints with the batch color, which is treated as premultiplied too.
+ */
+public class CachedLayer implements Disposable {
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 previousProjection = new Matrix4();
+    private final TextureRegion region = new TextureRegion();
+    private FrameBuffer buffer;
+    private boolean valid = false;
+
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+
+    /** Makes the next isValid() return false, e.g. when the inputs of the layer changed. */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /** Returns whether the layer holds what it would draw now. */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Starts drawing the world rectangle (x, y, width, height) into the layer, at pixelsPerUnit.
+     * The batch must not be drawing; it is begun with the blending set to blendOver().
+     */
+    public void begin(
+            SpriteBatch batch, float x, float y, float width, float height, float pixelsPerUnit) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        int pixelWidth = Math.max(1, Math.round(width * pixelsPerUnit));
+        int pixelHeight = Math.max(1, Math.round(height * pixelsPerUnit));
+        if (buffer == null
+                || buffer.getWidth() != pixelWidth
+                || buffer.getHeight() != pixelHeight) {
+            if (buffer != null) buffer.dispose();
+            buffer = new FrameBuffer(Pixmap.Format.RGBA8888, pixelWidth, pixelHeight, false);
+            buffer.getColorBufferTexture()
+                    .setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        buffer.begin();
+        ScreenUtils.clear(0, 0, 0, 0);
+        previousProjection.set(batch.getProjectionMatrix());
+        batch.setProjectionMatrix(projection.setToOrtho2D(x, y, width, height));
+        batch.begin();
+        blendOver(batch);
+    }
+
+    /** Ends drawing into the layer, and restores the projection and blending of the batch. */
+    public void end(SpriteBatch batch) {
+        batch.end();
+        buffer.end();
+        batch.setProjectionMatrix(previousProjection);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setColor(Color.WHITE);
+        valid = true;
+    }
+
+    /** Draws the layer in its place, rotated by degrees around its center, while drawing. */
+    public void draw(SpriteBatch batch, float degrees) {
+        if (buffer == null) return;
+        Texture texture = buffer.getColorBufferTexture();
+        region.setTexture(texture);
+        // the FrameBuffer is upside down
+        region.setRegion(0f, 1f, 1f, 0f);
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.draw(region, x, y, width * 0.5f, height * 0.5f, width, height, 1f, 1f, degrees);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /** Alpha blending while drawing into a layer. */
+    public static void blendOver(SpriteBatch batch) {
+        batch.setBlendFunctionSeparate(
+                GL20.GL_SRC_ALPHA,
+                GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE,
+                GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /** Additive blending while drawing into a layer; it adds light, but no coverage. */
+    public static void blendAdditive(SpriteBatch batch) {
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ZERO, GL20.GL_ONE);
+    }
+
+    @Override
+    public void dispose() {
+        if (buffer != null) buffer.dispose();
+        buffer = null;
+        valid = false;
+    }
+}
@@ -0,0 +1,89 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/**
+ * Renders the world into an offscreen FrameBuffer of a fraction of the screen resolution and
+ * scales it up to the screen with nearest filtering, so that slow fill rate costs world pixels
+ * only, while everything drawn after end() (the HUD) stays at full resolution.
+ *
+ * <p>The fraction is chosen by a QualityGovernor, from SCALES. Everything between begin() and end()
+ * must draw with camera projections only, as the viewport is that of the FrameBuffer.
+ */
+public class DynamicResolution implements QualityGovernor.Subsystem, Disposable {
+    /** Resolution of the world relative to the screen, for each quality level. */
+    private static final float[] SCALES = {0.5f, 0.625f, 0.75f, 0.875f, 1f};
+
+    private final Matrix4 screenProjection = new Matrix4();
+    private FrameBuffer buffer;
+    private float scale = 1f;
+
+    @Override
+    public int getLevelCount() {
+        return SCALES.length;
+    }
+
+    /** Takes effect with the next begin(). */
+    @Override
+    public void setLevel(int level) {
+        scale = SCALES[level];
+    }
+
+    /** Returns the current resolution of the world relative to the screen. */
+    public float getScale() {
+        return scale;
+    }
+
+    /** Redirects all drawing into the FrameBuffer, and clears it to black. */
+    public void begin() {
+        int width = Math.max(1, Math.round(Gdx.graphics.getBackBufferWidth() * scale));
+        int height = Math.max(1, Math.round(Gdx.graphics.getBackBufferHeight() * scale));
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            if (buffer != null) buffer.dispose();
+            buffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            buffer.getColorBufferTexture()
+                    .setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        }
+        buffer.begin();
+        ScreenUtils.clear(0, 0, 0, 1);
+    }
+
+    /** Draws the FrameBuffer over the whole screen with batch, which must not be drawing. */
+    public void end(SpriteBatch batch) {
+        buffer.end();
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        Texture texture = buffer.getColorBufferTexture();
+        batch.setProjectionMatrix(screenProjection.setToOrtho2D(0, 0, width, height));
+        batch.disableBlending();
+        batch.begin();
+        // the FrameBuffer is upside down
+        batch.draw(
+                texture,
+                0,
+                0,
+                width,
+                height,
+                0,
+                0,
+                texture.getWidth(),
+                texture.getHeight(),
+                false,
+                true);
+        batch.end();
+        batch.enableBlending();
+    }
+
+    @Override
+    public void dispose() {
+        if (buffer != null) buffer.dispose();
+        buffer = null;
+    }
+}
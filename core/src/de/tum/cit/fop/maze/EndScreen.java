@@ -33,6 +33,8 @@ public class EndScreen implements Screen {
     private Music victory;
     private Texture backgroundTexture;
     private Label scoreLabel;
+    // reused for the text of scoreLabel, so that counting up creates no Strings
+    private final StringBuilder scoreText = new StringBuilder(16);
     private int displayedScore = 0;
     private float scoreTimer = 0f;
 
@@ -313,17 +315,24 @@ public void render(float delta) {
             scoreTimer += delta;
             if (scoreTimer > 0.05f) { // Update every 0.05s
                 displayedScore += Math.max(1, (targetScore - displayedScore) / 10);
-                scoreLabel.setText("Score: " + displayedScore);
+                showScore();
                 scoreTimer = 0;
             }
-        } else {
-            scoreLabel.setText("Score: " + targetScore);
+        } else if (displayedScore != targetScore) {
+            displayedScore = targetScore;
+            showScore();
         }
 
         stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
         stage.draw();
     }
 
+    private void showScore() {
+        scoreText.setLength(0);
+        scoreText.append("Score: ").append(displayedScore);
+        scoreLabel.setText(scoreText);
+    }
+
     @Override
     public void resize(int width, int height) {
         stage.getViewport().update(width, height, true);
@@ -2,20 +2,70 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /**
  * Handles the fog of war effect that limits player visibility.
  * Creates a circular visible area around the player with smooth edge transitions.
+ *
+ * <p>The fog is a single screen-covering quad, the fragment shader computes the falloff of up to
+ * MAX_LIGHTS light sources (the player, explosions) and keeps the brightest. No stencil buffer,
+ * no gradient texture and no extra batch are involved.
  */
 public class FogOfWar {
-    private final ShapeRenderer shapeRenderer;
-    private final Texture gradientTexture;
+    /** Lights beyond this number, the player included, are ignored. */
+    public static final int MAX_LIGHTS = 8;
+
+    private static final String VERTEX_SHADER =
+            "attribute vec2 a_position;\n"
+                    + "uniform vec4 u_view;\n"
+                    + "varying vec2 v_world;\n"
+                    + "void main() {\n"
+                    // a_position runs from 0 to 1 over the screen, u_view is the visible world
+                    + "    v_world = u_view.xy + a_position * u_view.zw;\n"
+                    + "    gl_Position = vec4(a_position * 2.0 - 1.0, 0.0, 1.0);\n"
+                    + "}\n";
+
+    private static final String FRAGMENT_SHADER =
+            "#ifdef GL_ES\n"
+                    + "#ifdef GL_FRAGMENT_PRECISION_HIGH\n"
+                    + "precision highp float;\n"
+                    + "#else\n"
+                    + "precision mediump float;\n"
+                    + "#endif\n"
+                    + "#endif\n"
+                    + "#define MAX_LIGHTS "
+                    + MAX_LIGHTS
+                    + "\n"
+                    + "varying vec2 v_world;\n"
+                    // x, y and radius of every light
+                    + "uniform vec3 u_lights[MAX_LIGHTS];\n"
+                    + "uniform int u_lightCount;\n"
+                    + "void main() {\n"
+                    + "    float fog = 1.0;\n"
+                    + "    for (int i = 0; i < MAX_LIGHTS; i++) {\n"
+                    + "        if (i >= u_lightCount) break;\n"
+                    + "        vec3 light = u_lights[i];\n"
+                    // fully clear in a small core, then a large dim area up to the radius
+                    + "        float core = light.z * 0.05;\n"
+                    + "        float t = (distance(v_world, light.xy) - core) / (light.z - core);\n"
+                    + "        fog = min(fog, pow(clamp(t, 0.0, 1.0), 0.75));\n"
+                    + "    }\n"
+                    + "    gl_FragColor = vec4(0.0, 0.0, 0.0, fog);\n"
+                    + "}\n";
+
+    private final ShaderProgram shader;
+    private final Mesh quad;
+    private final float[] lightData = new float[MAX_LIGHTS * 3];
+    private final Rectangle view = new Rectangle();
 
     // Configuration
     private float visibleRadius = 125f;
@@ -24,131 +74,59 @@ public class FogOfWar {
      * Creates a new FogOfWar instance.
      */
     public FogOfWar() {
-        shapeRenderer = new ShapeRenderer();
-        gradientTexture = createGradientTexture(512);
-    }
-
-    /**
-     * Creates a large circular gradient texture for smooth lighting effect.
-     * Center is brightest (fully transparent), naturally fades to pure black at edge.
-     * Designed for atmospheric effect with a large dim/grey transition area.
-     */
-    private Texture createGradientTexture(int size) {
-        Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
-
-        float center = size / 2f;
-        // Visible edge covers most of the texture
-        float visibleEdge = center * 0.95f;
-        // Small bright core (15% of visible radius) to ensure center is clear
-        float brightCore = visibleEdge * 0.05f;
-
-        for (int y = 0; y < size; y++) {
-            for (int x = 0; x < size; x++) {
-                float dx = x - center;
-                float dy = y - center;
-                float dist = (float) Math.sqrt(dx * dx + dy * dy);
-
-                float alpha;
-                if (dist >= visibleEdge) {
-                    // Outside visible area - fully dark (pure black)
-                    alpha = 1f;
-                } else if (dist <= brightCore) {
-                    // Bright center core - fully transparent
-                    alpha = 0f;
-                } else {
-                    // Transition zone from bright core to dark edge
-                    float t = (dist - brightCore) / (visibleEdge - brightCore);
-
-                    // "Grey/dim area largest" -> Use a power curve < 1
-                    // This makes alpha rise quickly from 0 to grey levels,
-                    // creating a large area of partial darkness (atmosphere)
-                    alpha = (float) Math.pow(t, 0.75f);
-                }
-
-                pixmap.setColor(0, 0, 0, alpha);
-                pixmap.drawPixel(x, y);
-            }
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Fog of war shader: " + shader.getLog());
         }
-
-        Texture texture = new Texture(pixmap);
-        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        pixmap.dispose();
-
-        return texture;
+        quad =
+                new Mesh(
+                        true,
+                        4,
+                        6,
+                        new VertexAttribute(
+                                VertexAttributes.Usage.Position,
+                                2,
+                                ShaderProgram.POSITION_ATTRIBUTE));
+        quad.setVertices(new float[] {0, 0, 1, 0, 1, 1, 0, 1});
+        quad.setIndices(new short[] {0, 1, 2, 2, 3, 0});
     }
 
     /**
      * Renders the fog of war effect around the given position.
-     * Uses stencil buffer for fog coverage and gradient for smooth lighting.
+     * Must be called outside of a SpriteBatch.
      *
-     * @param batch The sprite batch to use for rendering
      * @param camera The camera to use for projection
      * @param centerX X position of the visibility center (usually player position)
      * @param centerY Y position of the visibility center
+     * @param lights Further lights as x, y, radius triples, e.g. from Maze.getLights(), may be null
      */
-    public void render(SpriteBatch batch, OrthographicCamera camera, float centerX, float centerY) {
-        // Enable stencil testing
-        Gdx.gl.glEnable(GL20.GL_STENCIL_TEST);
-        Gdx.gl.glClearStencil(0);
-        Gdx.gl.glClear(GL20.GL_STENCIL_BUFFER_BIT);
-
-        // Step 1: Draw circle to stencil buffer (mark visible area)
-        Gdx.gl.glColorMask(false, false, false, false);
-        Gdx.gl.glStencilFunc(GL20.GL_ALWAYS, 1, 0xFF);
-        Gdx.gl.glStencilOp(GL20.GL_KEEP, GL20.GL_KEEP, GL20.GL_REPLACE);
-
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.circle(centerX, centerY, visibleRadius);
-        shapeRenderer.end();
-
-        // Step 2: Draw black fog where stencil is 0 (outside visible circle)
-        Gdx.gl.glColorMask(true, true, true, true);
-        Gdx.gl.glStencilFunc(GL20.GL_EQUAL, 0, 0xFF);
-        Gdx.gl.glStencilOp(GL20.GL_KEEP, GL20.GL_KEEP, GL20.GL_KEEP);
+    public void render(
+            OrthographicCamera camera, float centerX, float centerY, FloatArray lights) {
+        lightData[0] = centerX;
+        lightData[1] = centerY;
+        lightData[2] = visibleRadius;
+        int count = 1;
+        if (lights != null) {
+            int extra = Math.min(lights.size / 3, MAX_LIGHTS - 1);
+            System.arraycopy(lights.items, 0, lightData, 3, extra * 3);
+            count += extra;
+        }
 
+        MazeRunnerCamera.getViewBounds(camera, view);
         Gdx.gl.glEnable(GL20.GL_BLEND);
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        // Draw large black rectangle covering entire viewport
-        float coverSize = Math.max(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()) * camera.zoom * 2f;
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 1f);
-        shapeRenderer.rect(
-            centerX - coverSize,
-            centerY - coverSize,
-            coverSize * 2f,
-            coverSize * 2f
-        );
-        shapeRenderer.end();
-
-        // Step 3: Draw gradient texture over visible area for lighting effect
-        Gdx.gl.glStencilFunc(GL20.GL_EQUAL, 1, 0xFF);
-
-        // Gradient size: texture's 95% = visibleRadius, so full size = visibleRadius / 0.95 * 2
-        float gradientSize = visibleRadius * 2.1f;
-
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-        batch.draw(
-            gradientTexture,
-            centerX - gradientSize / 2f,
-            centerY - gradientSize / 2f,
-            gradientSize,
-            gradientSize
-        );
-        batch.end();
-
-        // Disable stencil testing
-        Gdx.gl.glDisable(GL20.GL_STENCIL_TEST);
+        shader.bind();
+        shader.setUniformf("u_view", view.x, view.y, view.width, view.height);
+        shader.setUniform3fv("u_lights", lightData, 0, count * 3);
+        shader.setUniformi("u_lightCount", count);
+        quad.render(shader, GL20.GL_TRIANGLES);
     }
 
     /**
      * Convenience method using Vector2 for position.
      */
-    public void render(SpriteBatch batch, OrthographicCamera camera, Vector2 center) {
-        render(batch, camera, center.x, center.y);
+    public void render(OrthographicCamera camera, Vector2 center, FloatArray lights) {
+        render(camera, center.x, center.y, lights);
     }
 
     /**
@@ -169,7 +147,7 @@ public float getVisibleRadius() {
      * Disposes of resources used by the fog of war.
      */
     public void dispose() {
-        shapeRenderer.dispose();
-        gradientTexture.dispose();
+        shader.dispose();
+        quad.dispose();
     }
 }
@@ -24,10 +24,15 @@
 
 /** The game screen that appears when player dies. */
 public class GameOverScreen implements Screen {
+    // keys of the generated textures, see ProceduralTextures
+    private static final String BACKGROUND = "gameover-background-1x512";
+    private static final String VIGNETTE = "gameover-vignette-512";
+    private static final String PARTICLE = "gameover-ember-8";
 
     private final MazeRunnerGame game;
     private final Stage stage;
     private Music afterDeath;
+    // the generated textures belong to the game's ProceduralTextures
     private Texture backgroundTexture;
     private Texture skullTexture;
     private Texture vignetteTexture;
@@ -49,10 +54,14 @@ public GameOverScreen(MazeRunnerGame game) {
         afterDeath.setVolume(game.getVolume());
         afterDeath.play();
 
-        // Create visual textures
-        createBackgroundTexture();
-        createVignetteTexture();
-        createParticleTexture();
+        // Create visual textures, only generated the first time
+        ProceduralTextures textures = game.getProceduralTextures();
+        backgroundTexture = textures.get(BACKGROUND, GameOverScreen::createBackgroundPixmap);
+        backgroundTexture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
+        vignetteTexture = textures.get(VIGNETTE, GameOverScreen::createVignettePixmap);
+        vignetteTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        particleTexture = textures.get(PARTICLE, GameOverScreen::createParticlePixmap);
+        particleTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         initParticles();
 
         // Load skull texture
@@ -166,8 +175,15 @@ public void changed(ChangeEvent event, Actor actor) {
         stage.getRoot().addAction(Actions.fadeIn(1.0f));
     }
 
-    /** Creates a dark red gradient background texture. */
-    private void createBackgroundTexture() {
+    /** Starts generating the textures of this screen in the background. */
+    static void prefetchTextures(ProceduralTextures textures) {
+        textures.prefetch(BACKGROUND, GameOverScreen::createBackgroundPixmap);
+        textures.prefetch(VIGNETTE, GameOverScreen::createVignettePixmap);
+        textures.prefetch(PARTICLE, GameOverScreen::createParticlePixmap);
+    }
+
+    /** Creates a dark red gradient background. */
+    private static Pixmap createBackgroundPixmap() {
         int width = 1;
         int height = 512;
         Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
@@ -182,14 +198,11 @@ private void createBackgroundTexture() {
             pixmap.setColor(r, g, b, 1f);
             pixmap.drawLine(0, y, width, y);
         }
-
-        backgroundTexture = new Texture(pixmap);
-        backgroundTexture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
-        pixmap.dispose();
+        return pixmap;
     }
 
-    /** Creates a vignette texture for darkening screen edges. */
-    private void createVignetteTexture() {
+    /** Creates a vignette for darkening screen edges. */
+    private static Pixmap createVignettePixmap() {
         int size = 512;
         Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
 
@@ -208,14 +221,11 @@ private void createVignetteTexture() {
                 pixmap.drawPixel(x, y);
             }
         }
-
-        vignetteTexture = new Texture(pixmap);
-        vignetteTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        pixmap.dispose();
+        return pixmap;
     }
 
-    /** Creates a simple particle texture for floating ash/ember effect. */
-    private void createParticleTexture() {
+    /** Creates a simple particle for floating ash/ember effect. */
+    private static Pixmap createParticlePixmap() {
         int size = 8;
         Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
 
@@ -233,10 +243,7 @@ private void createParticleTexture() {
                 pixmap.drawPixel(x, y);
             }
         }
-
-        particleTexture = new Texture(pixmap);
-        particleTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        pixmap.dispose();
+        return pixmap;
     }
 
     /** Initialize floating particle positions and speeds. */
@@ -340,18 +347,9 @@ public void hide() {}
     @Override
     public void dispose() {
         stage.dispose();
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
         if (skullTexture != null) {
             skullTexture.dispose();
         }
-        if (vignetteTexture != null) {
-            vignetteTexture.dispose();
-        }
-        if (particleTexture != null) {
-            particleTexture.dispose();
-        }
         if (afterDeath != null) {
             afterDeath.dispose();
         }
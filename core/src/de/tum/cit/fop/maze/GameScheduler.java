@@ -0,0 +1,212 @@
+package de.tum.cit.fop.maze;
+
+/**
+ * Runs callbacks after a delay of game time, using a hierarchical timer wheel.
+ *
+ * <p>Time only advances through update(), so timers stop while the game is paused and follow the
+ * time scale. Scheduling and cancelling are O(1), and a frame without due timers costs a few array
+ * lookups no matter how many timers are pending, instead of every timer polling its own countdown.
+ *
+ * <p>The wheel has LEVELS levels of WHEEL_SIZE slots. Level 0 has one slot per tick, every further
+ * level covers a whole rotation of the previous one per slot. Timers far in the future sit in an
+ * outer level and are moved inwards ("cascaded") once their slot comes up.
+ */
+public class GameScheduler {
+    /** Duration of one tick of the innermost wheel, in seconds. */
+    public static final float TICK = 1f / 60f;
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // 64^4 ticks, about 77 hours at 60 ticks per second
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (LEVELS * WHEEL_BITS)) - 1;
+
+    /** A scheduled callback, can be used to cancel it. */
+    public static final class Timer {
+        private final Runnable task;
+        // repeat interval in ticks, 0 for one-shot timers
+        private final long intervalTicks;
+        private long deadline;
+        private boolean pending;
+        // intrusive doubly linked list of the slot the timer is in
+        private Timer prev;
+        private Timer next;
+        private int level;
+        private int slot;
+        private GameScheduler scheduler;
+
+        private Timer(Runnable task, long intervalTicks) {
+            this.task = task;
+            this.intervalTicks = intervalTicks;
+        }
+
+        /** Cancels the timer, it will not run (again). Has no effect if it is not pending. */
+        public void cancel() {
+            if (!pending) return;
+            scheduler.unlink(this);
+            pending = false;
+        }
+
+        /** Returns if the timer will still run. */
+        public boolean isPending() {
+            return pending;
+        }
+
+        /** Returns the game time in seconds until the timer runs, 0 if it is not pending. */
+        public float getRemaining() {
+            if (!pending) return 0f;
+            return Math.max(0f, (deadline - scheduler.currentTick) * TICK - scheduler.accumulator);
+        }
+    }
+
+    private final Timer[][] wheels = new Timer[LEVELS][WHEEL_SIZE];
+    private long currentTick = 0;
+    // game time not yet consumed by a full tick
+    private float accumulator = 0f;
+    private float timeScale = 1f;
+    private boolean paused = false;
+    private int pendingCount = 0;
+
+    /** Runs task once after delay seconds of game time. */
+    public Timer schedule(float delay, Runnable task) {
+        return schedule(delay, 0f, task);
+    }
+
+    /**
+     * Runs task after delay seconds of game time, then every interval seconds until cancelled. An
+     * interval of 0 makes it a one-shot timer.
+     */
+    public Timer schedule(float delay, float interval, Runnable task) {
+        Timer timer = new Timer(task, interval > 0f ? toTicks(interval) : 0);
+        timer.scheduler = this;
+        timer.deadline = currentTick + toTicks(delay);
+        insert(timer);
+        return timer;
+    }
+
+    /** Advances game time, running every timer that becomes due, tick by tick. */
+    public void update(float delta) {
+        if (paused) return;
+        accumulator += delta * timeScale;
+        while (accumulator >= TICK) {
+            accumulator -= TICK;
+            if (pendingCount == 0) {
+                // nothing can become due, skip all remaining ticks at once
+                long ticks = (long) (accumulator / TICK);
+                currentTick += ticks + 1;
+                accumulator -= ticks * TICK;
+                break;
+            }
+            tick();
+        }
+    }
+
+    /** Cancels all pending timers. */
+    public void clear() {
+        for (Timer[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; ++i) {
+                for (Timer timer = wheel[i]; timer != null; timer = timer.next) {
+                    timer.pending = false;
+                }
+                wheel[i] = null;
+            }
+        }
+        pendingCount = 0;
+    }
+
+    /** Returns the game time in seconds elapsed through update(). */
+    public float getTime() {
+        return currentTick * TICK + accumulator;
+    }
+
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /** Sets how fast game time passes relative to the delta passed to update(). */
+    public void setTimeScale(float timeScale) {
+        this.timeScale = Math.max(0f, timeScale);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /** Returns the number of timers waiting to run. */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    private static long toTicks(float seconds) {
+        // at least one tick, so that a timer never runs within the call that scheduled it
+        return Math.max(1L, (long) Math.ceil(seconds / TICK - 1e-4f));
+    }
+
+    private void tick() {
+        ++currentTick;
+        // entering a new rotation of a level: move the timers of its next slot inwards
+        for (int level = 1; level < LEVELS; ++level) {
+            if ((currentTick & ((1L << (level * WHEEL_BITS)) - 1)) != 0) break;
+            cascade(level, (int) ((currentTick >>> (level * WHEEL_BITS)) & WHEEL_MASK));
+        }
+
+        // pop one by one, so that a task may cancel other timers due in the same tick
+        int slot = (int) (currentTick & WHEEL_MASK);
+        Timer timer;
+        while ((timer = wheels[0][slot]) != null) {
+            unlink(timer);
+            if (timer.intervalTicks > 0) {
+                // re-arm before running, so the task may cancel its own timer
+                timer.deadline = currentTick + timer.intervalTicks;
+                insert(timer);
+            } else {
+                timer.pending = false;
+            }
+            timer.task.run();
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        // detach the whole list first, a timer a full rotation ahead is re-inserted into this slot
+        Timer timer = wheels[level][slot];
+        wheels[level][slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            --pendingCount;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delta = Math.min(Math.max(timer.deadline - currentTick, 0L), MAX_DELTA);
+        long due = currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << ((level + 1) * WHEEL_BITS))) {
+            ++level;
+        }
+        int slot = (int) ((due >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+        timer.level = level;
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = wheels[level][slot];
+        if (timer.next != null) timer.next.prev = timer;
+        wheels[level][slot] = timer;
+        timer.pending = true;
+        ++pendingCount;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) timer.prev.next = timer.next;
+        else wheels[timer.level][timer.slot] = timer.next;
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        --pendingCount;
+    }
+}
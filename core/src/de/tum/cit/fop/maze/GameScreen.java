@@ -3,14 +3,20 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.ScreenUtils;
 
 import de.tum.cit.fop.maze.elements.Exit;
 import de.tum.cit.fop.maze.elements.Maze;
+import de.tum.cit.fop.maze.elements.Minimap;
 import de.tum.cit.fop.maze.elements.Player;
 
 import java.io.IOException;
@@ -29,9 +35,42 @@ public class GameScreen implements Screen {
     private final HUD hud;
     private final FogOfWar fogOfWar;
     private final ShapeRenderer shapeRenderer;
+    // scratch for the view passed to Maze.renderTiles()
+    private final Rectangle tileView = new Rectangle();
 
     private float stateTime = 0f;
-    private boolean paused = false;
+    // also read by the simulation thread
+    private volatile boolean paused = false;
+    // set by resize() in threaded mode, the camera belongs to the simulation thread
+    private volatile boolean cameraResized = false;
+
+    // the world is recorded and then drawn layer by layer, see RenderSnapshot
+    private final RecordingBatch recordingBatch;
+    // single-threaded mode only, the recorded world of the current frame
+    private final RenderSnapshot worldQueue;
+    // batch flushes and blend layers of the last drawn world
+    private int worldFlushes = 0;
+    private int worldLayers = 0;
+
+    // Threaded mode only (see MazeRunnerGame.setThreadedSimulation()), null otherwise. The maze is
+    // simulated and recorded on its own thread, render() only draws the latest snapshot.
+    private final SimulationThread simulation;
+    private final TripleBuffer<RenderSnapshot> snapshots;
+    private final OrthographicCamera renderCamera;
+
+    // lowers the detail of effects while frames are slow, -Dmaze.adaptiveQuality=false turns it off
+    private final QualityGovernor quality;
+    // -Dmaze.dynamicResolution=true draws the world below screen resolution on slow frames,
+    // null otherwise
+    private final DynamicResolution worldResolution;
+
+    // debug: -Dmaze.profileGL=true logs the texture bindings and draw calls per frame
+    private final GLProfiler profiler;
+    private int profiledFrames = 0;
+    private float profiledTime = 0f;
+
+    // mobs shown on the minimap in the single-threaded mode, see Minimap.collectMarkers()
+    private final FloatArray minimapMarkers = new FloatArray();
 
     /**
      * Constructor for GameScreen. Initializes all important elements.
@@ -75,9 +114,69 @@ public GameScreen(MazeRunnerGame game, String mapFilePath) {
         player = new Player(game, maze, maze.getEntry().getPosition());
         camera = new MazeRunnerCamera(game, player.getPosition());
         maze.setCamera(camera);
+        // debug: -Dmaze.recordHashes=<file> records the state hashes of this run,
+        // -Dmaze.verifyHashes=<file> reports where it first diverges from a recorded run
+        String recordHashes = System.getProperty("maze.recordHashes");
+        String verifyHashes = System.getProperty("maze.verifyHashes");
+        if (recordHashes != null) {
+            maze.getWorldHash().startRecording(Gdx.files.local(recordHashes));
+        } else if (verifyHashes != null) {
+            maze.getWorldHash().verifyAgainst(Gdx.files.local(verifyHashes));
+        }
+        if (Boolean.getBoolean("maze.profileGL")) {
+            profiler = new GLProfiler(Gdx.graphics);
+            profiler.enable();
+        } else {
+            profiler = null;
+        }
         hud = new HUD(game.getSpriteBatch());
         fogOfWar = new FogOfWar();
+        quality = new QualityGovernor();
+        // the HUD animating at a lower rate is the least noticeable; it and the world resolution
+        // are given up completely before the effect detail of the maze, of priority 0
+        quality.register(hud, -1);
+        if (Boolean.getBoolean("maze.dynamicResolution")) {
+            worldResolution = new DynamicResolution();
+            quality.register(worldResolution, -1);
+        } else {
+            worldResolution = null;
+        }
+        maze.registerQuality(quality);
+        quality.setEnabled(
+                Boolean.parseBoolean(System.getProperty("maze.adaptiveQuality", "true")));
         shapeRenderer = new ShapeRenderer();
+        recordingBatch = new RecordingBatch();
+
+        if (game.isThreadedSimulation()) {
+            Maze.prepareForSimulationThread();
+            worldQueue = null;
+            snapshots = new TripleBuffer<>(RenderSnapshot::new);
+            renderCamera = new OrthographicCamera();
+            simulation =
+                    new SimulationThread(
+                            new SimulationThread.Simulation() {
+                                @Override
+                                public void onStart() {
+                                    game.bindSpriteBatch(recordingBatch);
+                                }
+
+                                @Override
+                                public void step(float delta) {
+                                    simulate(delta);
+                                }
+
+                                @Override
+                                public void publish() {
+                                    publishSnapshot();
+                                }
+                            },
+                            GameScheduler.TICK);
+        } else {
+            worldQueue = new RenderSnapshot();
+            snapshots = null;
+            renderCamera = null;
+            simulation = null;
+        }
     }
 
     /** Whether the game is currently paused. */
@@ -87,6 +186,12 @@ public boolean isPaused() {
 
     public void setPaused(boolean paused) {
         this.paused = paused;
+        game.updateFrameCap();
+    }
+
+    /** Returns the scheduler of the level, its timers only run while the game is not paused. */
+    public GameScheduler getScheduler() {
+        return maze.getScheduler();
     }
 
     /** Returns the current state time of the game screen, typically used for animations. */
@@ -96,6 +201,18 @@ public float getStateTime() {
 
     @Override
     public void render(float delta) {
+        if (profiler != null) sampleProfiler(delta);
+        // frames capped while paused or unfocused say nothing about the cost of the effects
+        if (!paused && game.isFocused()) quality.onFrame(delta);
+        if (simulation != null) {
+            renderSnapshot(delta);
+        } else {
+            renderFrame(delta);
+        }
+    }
+
+    /** Updates and draws one frame, the render() of the single-threaded mode. */
+    private void renderFrame(float delta) {
         if (!paused) {
             stateTime += delta;
             handleInput(delta);
@@ -111,48 +228,111 @@ public void render(float delta) {
         // Refresh camera (updates position, etc.)
         camera.refresh();
 
+        if (worldResolution != null) worldResolution.begin();
+
         // Render background if spaceship mode
         if (player.isSpaceshipMode()) {
-            renderSpaceBackground();
+            renderSpaceBackground(camera.getCamera());
         }
 
         // Render the game world using spriteBatch
-        game.getSpriteBatch().begin();
+        // static tiles come from the tile cache, the batch draws everything on top
+        maze.renderTiles(
+                game.getSpriteBatch().getProjectionMatrix(), camera.getViewBounds(tileView));
+
+        worldQueue.clear();
+        recordingBatch.setTarget(worldQueue);
+        game.bindSpriteBatch(recordingBatch);
+        recordingBatch.begin();
         renderGameElements();
-        game.getSpriteBatch().end();
+        recordingBatch.end();
+        game.bindSpriteBatch(null);
+        drawWorld(game.getSpriteBatch(), worldQueue);
 
         // Render fog of war effect around the player
-        fogOfWar.render(game.getSpriteBatch(), camera.getCamera(), player.getPosition());
+        fogOfWar.render(camera.getCamera(), player.getPosition(), maze.getLights());
+        if (worldResolution != null) worldResolution.end(game.getSpriteBatch());
 
         // Update and render HUD
-        float compassDeg = player.hasKey()
-                ? maze.findNearestExitDirection(player.getCenter())
-                : maze.findNearestKeyDirection(player.getCenter());
-
         hud.update(
                 (int) player.getHealth(),
                 player.hasKey(),
                 player.getSpeedFactor(),
                 player.hasShield(),
-                compassDeg);
+                getCompassDirection());
         hud.onFrame(delta);
         hud.render();
 
+        Minimap minimap = maze.getMinimap();
+        Vector2 playerPosition = player.getPosition();
+        minimap.collectMarkers(playerPosition.x, playerPosition.y, minimapMarkers);
+        minimap.render(game.getSpriteBatch(), playerPosition.x, playerPosition.y, minimapMarkers);
+
         StoryScreen.getInstance().update(delta);
         StoryScreen.getInstance().render(game.getSpriteBatch());
     }
 
+    /** Logs the average GL work per frame about once a second, only called by render(). */
+    private void sampleProfiler(float delta) {
+        ++profiledFrames;
+        profiledTime += delta;
+        if (profiledTime < 1f) return;
+        Gdx.app.log(
+                "GameScreen",
+                String.format(
+                        "%.1f texture bindings, %.1f draw calls, %.1f shader switches per frame,"
+                                + " world: %d flushes in %d blend layers",
+                        profiler.getTextureBindings() / (float) profiledFrames,
+                        profiler.getDrawCalls() / (float) profiledFrames,
+                        profiler.getShaderSwitches() / (float) profiledFrames,
+                        worldFlushes,
+                        worldLayers));
+        profiler.reset();
+        profiledFrames = 0;
+        profiledTime = 0f;
+    }
+
+    /** Draws the recorded world with batch, alpha blended sprites first, then additive ones. */
+    private void drawWorld(SpriteBatch batch, RenderSnapshot world) {
+        batch.begin();
+        world.replay(batch);
+        batch.end();
+        worldFlushes = batch.renderCalls;
+        worldLayers = world.getLayerCount();
+    }
+
+    /** Returns the number of SpriteBatch flushes (draw calls) of the last drawn world. */
+    public int getWorldFlushes() {
+        return worldFlushes;
+    }
+
+    /** Returns the number of blend states the last drawn world used, see RenderSnapshot. */
+    public int getWorldLayers() {
+        return worldLayers;
+    }
+
     /** Handle input for the game screen, should only be called by render() when not paused. */
     private void handleInput(float delta) {
+        if (handleMenuKey()) return;
+
+        // Player input is now handled in Player::onFrame()
+
+        updateCamera(delta);
+    }
+
+    /** Goes to the menu if escape was pressed, returns if it did. */
+    private boolean handleMenuKey() {
         // Check for escape key press to go back to the menu
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             // Pause and switch to menu instead of exiting
             game.goToMenu(true);
-            return;
+            return true;
         }
+        return false;
+    }
 
-        // Player input is now handled in Player::onFrame()
-
+    /** Follows the player with the camera, and zooms on Z and X. */
+    private void updateCamera(float delta) {
         camera.moveTowards(player.getPosition());
 
         if (Gdx.input.isKeyPressed(Input.Keys.Z)) {
@@ -173,6 +353,96 @@ private void renderGameElements() {
         maze.render();
     }
 
+    /** Returns the direction the HUD compass points to: the nearest exit with a key, else a key. */
+    private float getCompassDirection() {
+        return player.hasKey()
+                ? maze.findNearestExitDirection(player.getCenter())
+                : maze.findNearestKeyDirection(player.getCenter());
+    }
+
+    /** One tick of the simulation thread, the counterpart of the update part of render(). */
+    private void simulate(float delta) {
+        if (!paused) {
+            stateTime += delta;
+            updateCamera(delta);
+            triggerEvents(delta);
+        }
+        camera.update(delta);
+    }
+
+    /** Records the maze and the HUD state into the next snapshot, on the simulation thread. */
+    private void publishSnapshot() {
+        RenderSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.clear();
+        recordingBatch.setTarget(snapshot);
+        recordingBatch.begin();
+        renderGameElements();
+        recordingBatch.end();
+
+        // applied before capturing, so the snapshot has the new viewport
+        if (cameraResized) {
+            cameraResized = false;
+            camera.resize();
+        }
+        camera.capture(snapshot);
+        snapshot.lights.addAll(maze.getLights());
+        snapshot.playerX = player.getPosition().x;
+        snapshot.playerY = player.getPosition().y;
+        maze.getMinimap()
+                .collectMarkers(snapshot.playerX, snapshot.playerY, snapshot.minimapMarkers);
+        snapshot.health = (int) player.getHealth();
+        snapshot.hasKey = player.hasKey();
+        snapshot.speedFactor = player.getSpeedFactor();
+        snapshot.hasShield = player.hasShield();
+        snapshot.compassDeg = getCompassDirection();
+        snapshot.spaceshipMode = player.isSpaceshipMode();
+        snapshots.publish();
+    }
+
+    /** Draws the latest snapshot of the simulation thread, the render() of the threaded mode. */
+    private void renderSnapshot(float delta) {
+        if (!paused) handleMenuKey();
+
+        ScreenUtils.clear(0, 0, 0, 1);
+        RenderSnapshot snapshot = snapshots.acquire();
+        // nothing published yet
+        if (snapshot.viewportWidth <= 0f) return;
+
+        renderCamera.viewportWidth = snapshot.viewportWidth;
+        renderCamera.viewportHeight = snapshot.viewportHeight;
+        renderCamera.zoom = snapshot.cameraZoom;
+        renderCamera.position.set(snapshot.cameraX, snapshot.cameraY, 0f);
+        renderCamera.update();
+
+        if (worldResolution != null) worldResolution.begin();
+        if (snapshot.spaceshipMode) {
+            renderSpaceBackground(renderCamera);
+        }
+
+        SpriteBatch batch = game.getSpriteBatch();
+        batch.setProjectionMatrix(renderCamera.combined);
+        maze.renderTiles(
+                renderCamera.combined, MazeRunnerCamera.getViewBounds(renderCamera, tileView));
+        drawWorld(batch, snapshot);
+
+        fogOfWar.render(renderCamera, snapshot.playerX, snapshot.playerY, snapshot.lights);
+        if (worldResolution != null) worldResolution.end(batch);
+
+        hud.update(
+                snapshot.health,
+                snapshot.hasKey,
+                snapshot.speedFactor,
+                snapshot.hasShield,
+                snapshot.compassDeg);
+        hud.onFrame(delta);
+        hud.render();
+        maze.getMinimap()
+                .render(batch, snapshot.playerX, snapshot.playerY, snapshot.minimapMarkers);
+
+        StoryScreen.getInstance().update(delta);
+        StoryScreen.getInstance().render(batch);
+    }
+
     /**
      * Called when the window is resized. We update the FitViewport for the game world and also
      * resize the HUD accordingly.
@@ -185,12 +455,13 @@ public void resize(int width, int height) {
         hud.resize(width, height);
 
         // Make sure camera's logic is still correct
-        camera.resize();
+        if (simulation != null) cameraResized = true;
+        else camera.resize();
     }
 
     @Override
     public void pause() {
-        this.paused = true;
+        setPaused(true);
     }
 
     @Override
@@ -198,19 +469,32 @@ public void resume() {
         // No special logic here
     }
 
+    /** Stops the simulation thread, if any, after its current step, see SimulationThread.stop(). */
+    public void stopSimulation() {
+        if (simulation != null) simulation.stop();
+    }
+
     @Override
     public void show() {
-        // Not used
+        if (simulation != null) simulation.start();
     }
 
     @Override
     public void hide() {
-        // Not used
+        // other screens may touch the game state, e.g. to restore the player
+        if (simulation != null) simulation.stop();
     }
 
     @Override
     public void dispose() {
+        if (simulation != null) simulation.stop();
+        recordingBatch.dispose();
+        maze.getWorldHash().close();
+        maze.disposeTiles();
+        if (profiler != null) profiler.disable();
         fogOfWar.dispose();
+        if (worldResolution != null) worldResolution.dispose();
+        hud.dispose();
         if (player != null) {
             player.dispose();
         }
@@ -219,8 +503,8 @@ public void dispose() {
         }
     }
 
-    private void renderSpaceBackground() {
-        shapeRenderer.setProjectionMatrix(camera.getCamera().combined);
+    private void renderSpaceBackground(OrthographicCamera camera) {
+        shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
         float w = maze.getWidth() * maze.getBlockSize();
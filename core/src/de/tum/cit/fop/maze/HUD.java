@@ -1,20 +1,39 @@
 package de.tum.cit.fop.maze;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-/** In-game HUD, displays health information, etc. */
-public class HUD {
+/**
+ * In-game HUD, displays health information, etc.
+ *
+ * <p>Everything that does not animate is drawn into CachedLayers: the status bar and panels, drawn
+ * again when update() changes what they show, and the dial and markers of the compass, which only
+ * change with the window size. Per frame, only these layers and the animated parts (low-health
+ * pulse, compass sweep and arrow) are drawn. Call invalidate() after changing tunables of the
+ * modules.
+ *
+ * <p>As a QualityGovernor subsystem, lower levels animate the modules at a lower rate.
+ */
+public class HUD implements QualityGovernor.Subsystem {
+    // animation updates per second of each quality level, 0 for every frame
+    private static final float[] REFRESH_RATES = {15f, 30f, 0f};
+
     private final SpriteBatch spriteBatch;
     private final Viewport viewport;
+    private float refreshInterval = 0f;
+    private float sinceRefresh = 0f;
 
     // Futuristic HUD modules
     private final SciFiHUD sciFiHUD;
     private final SciFiCompassHUD compassHUD;
 
+    private final CachedLayer statusLayer = new CachedLayer();
+    private final CachedLayer dialLayer = new CachedLayer();
+    private final CachedLayer markerLayer = new CachedLayer();
+
     public HUD(SpriteBatch spriteBatch) {
         this.spriteBatch = spriteBatch;
 
@@ -31,39 +50,95 @@ public HUD(SpriteBatch spriteBatch) {
 
     public void update(
             int health, boolean hasKey, float speed, boolean hasShield, float pointerDegree) {
-        sciFiHUD.setHealth(health, 100f); // assuming max health 100; adjust if different
-        sciFiHUD.setKeyCollected(hasKey);
-        sciFiHUD.setShieldActive(hasShield);
-        sciFiHUD.setSpeed(speed);
+        // assuming max health 100; adjust if different
+        boolean changed = sciFiHUD.setHealth(health, 100f);
+        changed |= sciFiHUD.setKeyCollected(hasKey);
+        changed |= sciFiHUD.setShieldActive(hasShield);
+        changed |= sciFiHUD.setSpeed(speed);
+        if (changed) statusLayer.invalidate();
 
         compassHUD.setTargetAngle(pointerDegree);
     }
 
     /** Call once per frame so modules can animate. */
     public void onFrame(float delta) {
-        sciFiHUD.update(delta);
-        compassHUD.update(delta);
+        sinceRefresh += delta;
+        if (sinceRefresh < refreshInterval) return;
+        sciFiHUD.update(sinceRefresh);
+        compassHUD.update(sinceRefresh);
+        sinceRefresh = 0f;
+    }
+
+    @Override
+    public int getLevelCount() {
+        return REFRESH_RATES.length;
+    }
+
+    @Override
+    public void setLevel(int level) {
+        refreshInterval = REFRESH_RATES[level] > 0f ? 1f / REFRESH_RATES[level] : 0f;
     }
 
     public void render() {
-        viewport.apply();
+        float worldWidth = viewport.getWorldWidth();
+        float worldHeight = viewport.getWorldHeight();
+        float pixelsPerUnit = viewport.getScreenWidth() / worldWidth;
+        float statusY = sciFiHUD.getBottom(worldHeight);
+        float size = compassHUD.getSize();
+        float compassX = compassHUD.getX();
+        float compassY = compassHUD.getY(worldHeight);
+
         spriteBatch.setProjectionMatrix(viewport.getCamera().combined);
+        if (!statusLayer.isValid()) {
+            statusLayer.begin(
+                    spriteBatch, 0f, statusY, worldWidth, worldHeight - statusY, pixelsPerUnit);
+            sciFiHUD.renderStatic(spriteBatch, viewport);
+            statusLayer.end(spriteBatch);
+        }
+        if (!dialLayer.isValid()) {
+            dialLayer.begin(spriteBatch, compassX, compassY, size, size, pixelsPerUnit);
+            compassHUD.renderDial(spriteBatch, compassX, compassY, size);
+            dialLayer.end(spriteBatch);
+        }
+        if (!markerLayer.isValid()) {
+            markerLayer.begin(spriteBatch, compassX, compassY, size, size, pixelsPerUnit);
+            compassHUD.renderMarkers(spriteBatch, compassX, compassY, size);
+            markerLayer.end(spriteBatch);
+        }
 
-        // Render Sci-Fi HUD (expects batch already begun)
+        // FrameBuffer.end() resets the GL viewport
+        viewport.apply();
         spriteBatch.begin();
-        sciFiHUD.render(spriteBatch, viewport);
+        statusLayer.draw(spriteBatch, 0f);
+        sciFiHUD.renderAnimated(spriteBatch);
+
+        // premultiplied, so the flicker scales the color as well
+        float flicker = compassHUD.getFlicker();
+        spriteBatch.setColor(flicker, flicker, flicker, flicker);
+        dialLayer.draw(spriteBatch, compassHUD.getRingAngle());
+        markerLayer.draw(spriteBatch, 0f);
+        spriteBatch.setColor(Color.WHITE);
+        compassHUD.renderAnimated(spriteBatch, compassX, compassY, size);
         spriteBatch.end();
+    }
 
-        // Render compass HUD separately (it manages its own begin/end)
-        compassHUD.render(spriteBatch, viewport.getWorldWidth(), viewport.getWorldHeight());
+    /** Makes the cached parts of the HUD be drawn again, e.g. after changing their tunables. */
+    public void invalidate() {
+        statusLayer.invalidate();
+        dialLayer.invalidate();
+        markerLayer.invalidate();
     }
 
     public void resize(int width, int height) {
         viewport.update(width, height, true);
+        invalidate();
     }
 
     public void dispose() {
         sciFiHUD.dispose();
         compassHUD.dispose();
+        statusLayer.dispose();
+        dialLayer.dispose();
+        markerLayer.dispose();
     }
 }
@@ -1,5 +1,6 @@
 package de.tum.cit.fop.maze;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import java.util.Random;
@@ -14,7 +15,12 @@ public static Direction Vector2Direction(Vector2 vec) {
     }
 
     public static Direction getRandomDirection() {
-        return switch (new Random().nextInt(4)) {
+        return getRandomDirection(MathUtils.random);
+    }
+
+    /** Returns a random direction drawn from the given generator. */
+    public static Direction getRandomDirection(Random random) {
+        return switch (random.nextInt(4)) {
             case 0 -> Direction.UP;
             case 1 -> Direction.DOWN;
             case 2 -> Direction.LEFT;
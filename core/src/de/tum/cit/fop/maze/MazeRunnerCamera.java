@@ -2,9 +2,12 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 
+import de.tum.cit.fop.maze.elements.GameRandom;
+
 /** A simple wrapper of OrthographicCamera */
 public class MazeRunnerCamera {
     private final MazeRunnerGame game;
@@ -17,6 +20,8 @@ public class MazeRunnerCamera {
     // Screen Shake
     private float shakeDuration = 0f;
     private float shakeIntensity = 0f;
+    // cosmetic stream, replaced by the maze's camera stream once attached
+    private GameRandom random = new GameRandom(System.nanoTime());
 
     public MazeRunnerCamera(MazeRunnerGame game, Vector2 initialPosition) {
         this.game = game;
@@ -37,6 +42,11 @@ public void moveTowards(Vector2 targetPosition) {
         camera.translate(delta);
     }
 
+    /** Sets the random stream used for the screen shake. */
+    public void setRandom(GameRandom random) {
+        this.random = random;
+    }
+
     public void shake(float duration, float intensity) {
         this.shakeDuration = duration;
         this.shakeIntensity = intensity;
@@ -58,8 +68,8 @@ public void refresh() {
         // Apply shake
         if (shakeDuration > 0) {
             float currentIntensity = shakeIntensity; 
-            shakeX = (float) (Math.random() * 2 - 1) * currentIntensity;
-            shakeY = (float) (Math.random() * 2 - 1) * currentIntensity;
+            shakeX = random.random(-1f, 1f) * currentIntensity;
+            shakeY = random.random(-1f, 1f) * currentIntensity;
             camera.translate(shakeX, shakeY);
             camera.update();
         }
@@ -86,6 +96,21 @@ public void refresh() {
     }
 
 
+    /** Writes the camera state, with the screen shake applied, into snapshot. */
+    public void capture(RenderSnapshot snapshot) {
+        float shakeX = 0;
+        float shakeY = 0;
+        if (shakeDuration > 0) {
+            shakeX = random.random(-1f, 1f) * shakeIntensity;
+            shakeY = random.random(-1f, 1f) * shakeIntensity;
+        }
+        snapshot.cameraX = camera.position.x + shakeX;
+        snapshot.cameraY = camera.position.y + shakeY;
+        snapshot.cameraZoom = camera.zoom;
+        snapshot.viewportWidth = camera.viewportWidth;
+        snapshot.viewportHeight = camera.viewportHeight;
+    }
+
     public void resize() {
         // Avoid resizing if dimensions are invalid (minimized)
         if (Gdx.graphics.getWidth() <= 0 || Gdx.graphics.getHeight() <= 0) return;
@@ -112,6 +137,18 @@ public void resetZoom() {
         camera.zoom = 1f;
     }
 
+    /** Writes the world area the camera shows, without screen shake, into out and returns it. */
+    public Rectangle getViewBounds(Rectangle out) {
+        return getViewBounds(camera, out);
+    }
+
+    /** Writes the world area camera shows into out and returns it. */
+    public static Rectangle getViewBounds(OrthographicCamera camera, Rectangle out) {
+        float w = camera.viewportWidth * camera.zoom;
+        float h = camera.viewportHeight * camera.zoom;
+        return out.set(camera.position.x - w / 2f, camera.position.y - h / 2f, w, h);
+    }
+
     public Vector3 project(Vector3 position) {
         return camera.project(position);
     }
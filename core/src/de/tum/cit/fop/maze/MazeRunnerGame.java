@@ -2,6 +2,7 @@
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -24,6 +25,9 @@ public class MazeRunnerGame extends Game {
     // ===== Cutscene played flags =====
     private boolean startStoryCutscenePlayed = false;
 
+    // seconds of game time each story message is shown before the next one
+    private static final float STORY_MESSAGE_INTERVAL = 5f;
+
     // 地图 - 默认加载最终挑战关卡
     private static final String DEFAULT_MAP_PATH = "maps/level-6.properties";
     // Screens
@@ -31,9 +35,21 @@ public class MazeRunnerGame extends Game {
     private GameScreen gameScreen;
     // Sprite Batch for rendering
     private SpriteBatch spriteBatch;
+    // batch used instead of spriteBatch by other threads, see bindSpriteBatch()
+    private final ThreadLocal<SpriteBatch> threadBatch = new ThreadLocal<>();
+    private Thread renderThread;
+    // run the game screen simulation on its own thread, see GameScreen
+    private boolean threadedSimulation = false;
+    // frame rate caps (0 for none) while playing, in menus or a paused game, and while the window
+    // has no focus, see setFrameCaps()
+    private int playingFrameCap = 0;
+    private int idleFrameCap = 0;
+    private int unfocusedFrameCap = 0;
+    private boolean focused = true;
     // UI Skin
     private Skin skin;
     private ResourcePack resourcePack;
+    private ProceduralTextures proceduralTextures;
     private Music backgroundMusic;
     // time recording
     private long startTime; // Record game start time
@@ -62,13 +78,28 @@ public ResourcePack getResourcePack() {
         return resourcePack;
     }
 
+    /** Returns the shared generated textures, see ProceduralTextures. */
+    public ProceduralTextures getProceduralTextures() {
+        return proceduralTextures;
+    }
+
     /** Called when the game is created. Initializes the SpriteBatch and Skin. */
     @Override
     public void create() {
+        renderThread = Thread.currentThread();
         spriteBatch = new SpriteBatch(); // Create SpriteBatch
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json")); // Load UI skin
 
         resourcePack = new ResourcePack();
+        proceduralTextures = new ProceduralTextures();
+        // -Dmaze.textureCache=<dir> keeps the generated textures across runs
+        String textureCache = System.getProperty("maze.textureCache");
+        if (textureCache != null) {
+            proceduralTextures.setCacheDirectory(Gdx.files.local(textureCache));
+        }
+        // generated while the menu is shown, so that later screens do not wait for them
+        GameOverScreen.prefetchTextures(proceduralTextures);
+        SpaceCruisesMiniGameScreen.prefetchTextures(proceduralTextures);
 
         // Play some background music
         backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("background.ogg"));
@@ -283,60 +314,32 @@ public void resetStartStoryCutscene() {
         startStoryCutscenePlayed = false;
     }
 
-    /** Show messages one by one */
+    /** Show messages one by one, on game time so that the story waits while the game is paused */
     private void showStorySequence() {
-        new Thread(
-                        () -> {
-                            try {
-                                Gdx.app.postRunnable(
-                                        () ->
-                                                StoryScreen.getInstance()
-                                                        .showMessage(
-                                                                "\"Was it a vision,or a waking dream?\"\n"
-                                                                        + "\"Do I wake,or sleep?\""));
-                                Thread.sleep(5000);
-
-                                Gdx.app.postRunnable(
-                                        () ->
-                                                StoryScreen.getInstance()
-                                                        .showMessage(
-                                                                "You wake up from a nightmare, only to find\n"
-                                                                        + "yourself in an even deeper dream\n"));
-                                Thread.sleep(5000);
-
-                                Gdx.app.postRunnable(
-                                        () ->
-                                                StoryScreen.getInstance()
-                                                        .showMessage(
-                                                                "an unknown space, dim lighting, \n"
-                                                                        + "and a labyrinth full\n"
-                                                                        + "of twists and turns, with the occasional\n"
-                                                                        + "sound of monsters echoing in the distance."));
-                                Thread.sleep(5000);
-                                Gdx.app.postRunnable(
-                                        () ->
-                                                StoryScreen.getInstance()
-                                                        .showMessage(
-                                                                "Could this be an even stranger dream?\n"
-                                                                        + "However, everything around you feels so\n"
-                                                                        + "real that it is hard to distinguish reality\n"
-                                                                        + "from illusion."));
-                                Thread.sleep(5000);
-
-                                Gdx.app.postRunnable(
-                                        () ->
-                                                StoryScreen.getInstance()
-                                                        .showMessage(
-                                                                "No matter what, you must\n"
-                                                                        + "find the key inside the labyrinth, locate\n"
-                                                                        + "the path to the exit, and escape\n"
-                                                                        + "as soon as possible.\n"));
-                                Thread.sleep(5000);
-                            } catch (InterruptedException e) {
-                                Gdx.app.log("StoryScreen", "Error displaying story sequence", e);
-                            }
-                        })
-                .start();
+        String[] messages = {
+            "\"Was it a vision,or a waking dream?\"\n" + "\"Do I wake,or sleep?\"",
+            "You wake up from a nightmare, only to find\n"
+                    + "yourself in an even deeper dream\n",
+            "an unknown space, dim lighting, \n"
+                    + "and a labyrinth full\n"
+                    + "of twists and turns, with the occasional\n"
+                    + "sound of monsters echoing in the distance.",
+            "Could this be an even stranger dream?\n"
+                    + "However, everything around you feels so\n"
+                    + "real that it is hard to distinguish reality\n"
+                    + "from illusion.",
+            "No matter what, you must\n"
+                    + "find the key inside the labyrinth, locate\n"
+                    + "the path to the exit, and escape\n"
+                    + "as soon as possible.\n"
+        };
+        GameScheduler scheduler = gameScreen.getScheduler();
+        for (int i = 0; i < messages.length; ++i) {
+            String message = messages[i];
+            scheduler.schedule(
+                    i * STORY_MESSAGE_INTERVAL,
+                    () -> runOnRenderThread(() -> StoryScreen.getInstance().showMessage(message)));
+        }
     }
 
     /** pause and resume game */
@@ -387,6 +390,7 @@ public void dispose() {
         }
         spriteBatch.dispose();
         skin.dispose();
+        proceduralTextures.dispose();
         if (backgroundMusic != null) {
             backgroundMusic.dispose();
         }
@@ -398,8 +402,89 @@ public Skin getSkin() {
         return skin;
     }
 
+    /**
+     * Returns the SpriteBatch to render with. On a thread with a bound batch (see
+     * bindSpriteBatch()) that one, the shared batch otherwise.
+     */
     public SpriteBatch getSpriteBatch() {
-        return spriteBatch;
+        SpriteBatch batch = threadBatch.get();
+        return batch != null ? batch : spriteBatch;
+    }
+
+    /**
+     * Makes getSpriteBatch() return batch on the calling thread, so that the simulation thread can
+     * record the render code instead of drawing. Null removes the binding.
+     */
+    public void bindSpriteBatch(SpriteBatch batch) {
+        if (batch == null) threadBatch.remove();
+        else threadBatch.set(batch);
+    }
+
+    /**
+     * Runs task on the render thread: immediately if called from it, otherwise before the next
+     * frame. Screen changes and anything else touching OpenGL must go through here.
+     */
+    public void runOnRenderThread(Runnable task) {
+        if (Thread.currentThread() == renderThread) task.run();
+        else Gdx.app.postRunnable(task);
+    }
+
+    /**
+     * Stops the simulation thread of the game screen after the current step, e.g. when the level
+     * ended. May be called from within the simulation.
+     */
+    public void stopSimulation() {
+        if (gameScreen != null) gameScreen.stopSimulation();
+    }
+
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    /** Enables the simulation thread for game screens created afterwards. */
+    public void setThreadedSimulation(boolean threadedSimulation) {
+        this.threadedSimulation = threadedSimulation;
+    }
+
+    /**
+     * Sets the frame rate caps, 0 meaning none: playing applies to the game and its cutscenes and
+     * mini game, idle to the menu, end and game over screens and to the paused game, unfocused to
+     * all screens while the window has no focus.
+     */
+    public void setFrameCaps(int playing, int idle, int unfocused) {
+        playingFrameCap = playing;
+        idleFrameCap = idle;
+        unfocusedFrameCap = unfocused;
+        if (Gdx.graphics != null) updateFrameCap();
+    }
+
+    /** Whether the window has the focus, as told by the launcher. */
+    public boolean isFocused() {
+        return focused;
+    }
+
+    /** Called by the launcher when the window gains or loses the focus. */
+    public void setFocused(boolean focused) {
+        this.focused = focused;
+        updateFrameCap();
+    }
+
+    /** Applies the frame rate cap of the current screen, call whenever its idle state changes. */
+    public void updateFrameCap() {
+        Screen screen = getScreen();
+        boolean idle =
+                screen instanceof MenuScreen
+                        || screen instanceof EndScreen
+                        || screen instanceof GameOverScreen
+                        || (screen != null && screen == gameScreen && gameScreen.isPaused());
+        Gdx.graphics.setForegroundFPS(
+                !focused ? unfocusedFrameCap : idle ? idleFrameCap : playingFrameCap);
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        super.setScreen(screen);
+        updateFrameCap();
     }
 
     public float getStateTime() {
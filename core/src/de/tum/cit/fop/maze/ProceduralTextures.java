@@ -0,0 +1,128 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generated textures (gradients, vignettes, glows), shared by key for the whole game.
+ *
+ * <p>The pixels of each key are generated once, on worker threads, and uploaded once. Screens that
+ * are recreated (after each death, each game over) therefore get their textures for free. The key
+ * must contain every parameter of the generator, e.g. "glow-64". Textures returned by get() belong
+ * to the cache and must not be disposed by the caller.
+ *
+ * <p>With a cache directory set, generated images are also stored there as PNG files named after
+ * their key, and later runs load them instead of generating them again.
+ */
+public class ProceduralTextures implements Disposable {
+    private static final String TAG = "ProceduralTextures";
+
+    /** Creates the pixels of a texture. Runs on a worker thread, so it must not touch OpenGL. */
+    public interface Generator {
+        Pixmap generate();
+    }
+
+    private final ExecutorService workers;
+    // only accessed on the render thread
+    private final ObjectMap<String, Future<Pixmap>> pending = new ObjectMap<>();
+    private final ObjectMap<String, Texture> textures = new ObjectMap<>();
+    private FileHandle cacheDirectory;
+
+    public ProceduralTextures() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        workers =
+                Executors.newFixedThreadPool(
+                        threads,
+                        task -> {
+                            Thread thread = new Thread(task, "Procedural textures");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /** Stores generated images in directory, and loads them from there if present. */
+    public void setCacheDirectory(FileHandle directory) {
+        cacheDirectory = directory;
+    }
+
+    /**
+     * Starts generating the texture of key in the background, if it is neither cached nor already
+     * being generated. Must be called on the render thread.
+     */
+    public void prefetch(String key, Generator generator) {
+        if (textures.containsKey(key) || pending.containsKey(key)) return;
+        FileHandle file = cacheDirectory != null ? cacheDirectory.child(key + ".png") : null;
+        pending.put(key, workers.submit(() -> load(file, generator)));
+    }
+
+    /**
+     * Returns the texture of key, generating it now if prefetch() was not called for it. Must be
+     * called on the render thread.
+     */
+    public Texture get(String key, Generator generator) {
+        Texture texture = textures.get(key);
+        if (texture != null) return texture;
+
+        prefetch(key, generator);
+        Pixmap pixmap;
+        try {
+            pixmap = pending.remove(key).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while generating " + key, e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Could not generate " + key, e.getCause());
+        }
+        texture = new Texture(pixmap);
+        pixmap.dispose();
+        textures.put(key, texture);
+        return texture;
+    }
+
+    private static Pixmap load(FileHandle file, Generator generator) {
+        if (file != null && file.exists()) {
+            try {
+                return new Pixmap(file);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error(TAG, "Ignoring unreadable " + file.path(), e);
+            }
+        }
+        Pixmap pixmap = generator.generate();
+        if (file != null) {
+            try {
+                PixmapIO.writePNG(file, pixmap);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error(TAG, "Could not store " + file.path(), e);
+            }
+        }
+        return pixmap;
+    }
+
+    @Override
+    public void dispose() {
+        for (Future<Pixmap> future : pending.values()) {
+            // cancelling fails only if the pixmap is done
+            if (future.cancel(true)) continue;
+            try {
+                future.get().dispose();
+            } catch (InterruptedException | ExecutionException ignored) {
+                // nothing left to free
+            }
+        }
+        pending.clear();
+        workers.shutdownNow();
+        for (Texture texture : textures.values()) texture.dispose();
+        textures.clear();
+    }
+}
@@ -0,0 +1,196 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Lowers the detail of costly effects while frames are slow, and raises it again once there is
+ * headroom.
+ *
+ * <p>Every frame time is kept in a rolling window. Twice a second the given percentile of the
+ * window is compared with the target frame time: above targetFrameTime * slowFactor for downDelay
+ * seconds steps one subsystem down, below targetFrameTime * fastFactor for upDelay seconds steps
+ * one subsystem up. The gap between the two factors and the longer upDelay keep the governor from
+ * oscillating between two levels; after every step the window starts over.
+ *
+ * <p>Every subsystem has a priority. Down lowers a subsystem of the lowest priority that can still
+ * go down, so subsystems of a higher priority keep their detail until all of lower priority are at
+ * level 0; up raises them again in the opposite order. Within one priority steps go round-robin:
+ * down lowers the subsystem with the highest level relative to its level count, the first
+ * registered one on ties, up raises the lowest one, the last registered one on ties. Subsystems
+ * that hurt the least when degraded should therefore be registered first.
+ */
+public class QualityGovernor {
+    private static final String TAG = "QualityGovernor";
+    private static final int WINDOW = 120;
+    private static final float EVALUATION_INTERVAL = 0.5f;
+    // hitches like loading a screen say nothing about the steady frame rate
+    private static final float MAX_SAMPLE = 0.25f;
+
+    /** Something whose cost can be lowered in steps, level 0 being the cheapest. */
+    public interface Subsystem {
+        int getLevelCount();
+
+        /** Applies a level, called on the render thread. */
+        void setLevel(int level);
+
+        /** Returns a subsystem with levelCount levels that passes every change to setter. */
+        static Subsystem of(int levelCount, IntConsumer setter) {
+            return new Subsystem() {
+                @Override
+                public int getLevelCount() {
+                    return levelCount;
+                }
+
+                @Override
+                public void setLevel(int level) {
+                    setter.accept(level);
+                }
+            };
+        }
+    }
+
+    /** Frame time to hold, in seconds. */
+    public float targetFrameTime = 1f / 60f;
+    /** Which frame time of the window is compared with the target, 0.9 ignores the slowest 10%. */
+    public float percentile = 0.9f;
+    public float slowFactor = 1.1f;
+    public float fastFactor = 0.75f;
+    public float downDelay = 1f;
+    public float upDelay = 4f;
+
+    private final Array<Subsystem> subsystems = new Array<>();
+    private int[] levels = new int[0];
+    private int[] priorities = new int[0];
+
+    private final float[] samples = new float[WINDOW];
+    private final float[] sorted = new float[WINDOW];
+    private int sampleCount = 0;
+    private int nextSample = 0;
+    private float sinceEvaluation = 0f;
+    private float slowTime = 0f;
+    private float fastTime = 0f;
+    private boolean enabled = true;
+
+    /** Adds a subsystem of priority 0 and sets it to its highest level. */
+    public void register(Subsystem subsystem) {
+        register(subsystem, 0);
+    }
+
+    /** Adds a subsystem and sets it to its highest level, see the class description. */
+    public void register(Subsystem subsystem, int priority) {
+        subsystems.add(subsystem);
+        levels = Arrays.copyOf(levels, subsystems.size);
+        priorities = Arrays.copyOf(priorities, subsystems.size);
+        levels[subsystems.size - 1] = subsystem.getLevelCount() - 1;
+        priorities[subsystems.size - 1] = priority;
+        subsystem.setLevel(subsystem.getLevelCount() - 1);
+    }
+
+    /** Disabling sets every subsystem back to its highest level and keeps it there. */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) return;
+        for (int i = 0; i < subsystems.size; ++i) {
+            setLevel(i, subsystems.get(i).getLevelCount() - 1);
+        }
+        restart();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Call once per rendered frame with its delta time. */
+    public void onFrame(float delta) {
+        if (!enabled || subsystems.isEmpty()) return;
+        samples[nextSample] = Math.min(delta, MAX_SAMPLE);
+        nextSample = (nextSample + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+
+        sinceEvaluation += delta;
+        if (sinceEvaluation < EVALUATION_INTERVAL) return;
+        float elapsed = sinceEvaluation;
+        sinceEvaluation = 0f;
+
+        float frameTime = getFrameTime();
+        if (frameTime > targetFrameTime * slowFactor) {
+            slowTime += elapsed;
+            fastTime = 0f;
+        } else if (frameTime < targetFrameTime * fastFactor) {
+            fastTime += elapsed;
+            slowTime = 0f;
+        } else {
+            slowTime = 0f;
+            fastTime = 0f;
+        }
+
+        if (slowTime >= downDelay && step(-1)) {
+            restart();
+        } else if (fastTime >= upDelay && step(1)) {
+            restart();
+        }
+    }
+
+    /** Returns the percentile frame time of the current window, 0 while it is empty. */
+    public float getFrameTime() {
+        if (sampleCount == 0) return 0f;
+        System.arraycopy(samples, 0, sorted, 0, sampleCount);
+        Arrays.sort(sorted, 0, sampleCount);
+        return sorted[Math.min(sampleCount - 1, (int) (percentile * sampleCount))];
+    }
+
+    /** Returns the current level of the subsystem registered as index-th. */
+    public int getLevel(int index) {
+        return levels[index];
+    }
+
+    // steps one subsystem by direction (-1 or 1), returns false if all are at their limit
+    private boolean step(int direction) {
+        int best = -1;
+        float bestLevel = 0f;
+        int bestPriority = 0;
+        for (int i = 0; i < subsystems.size; ++i) {
+            int max = subsystems.get(i).getLevelCount() - 1;
+            int level = levels[i];
+            if (direction < 0 ? level <= 0 : level >= max) continue;
+            float relative = max > 0 ? level / (float) max : 1f;
+            int priority = priorities[i];
+            boolean better;
+            if (best < 0) {
+                better = true;
+            } else if (priority != bestPriority) {
+                // down takes the lowest priority, up the highest
+                better = direction < 0 ? priority < bestPriority : priority > bestPriority;
+            } else {
+                // strict comparison picks the first on ties when going down, the last going up
+                better = direction < 0 ? relative > bestLevel : relative <= bestLevel;
+            }
+            if (better) {
+                best = i;
+                bestLevel = relative;
+                bestPriority = priority;
+            }
+        }
+        if (best < 0) return false;
+        setLevel(best, levels[best] + direction);
+        Gdx.app.log(TAG, "Subsystem " + best + " set to level " + levels[best]);
+        return true;
+    }
+
+    private void setLevel(int index, int level) {
+        levels[index] = level;
+        subsystems.get(index).setLevel(level);
+    }
+
+    private void restart() {
+        sampleCount = 0;
+        nextSample = 0;
+        sinceEvaluation = 0f;
+        slowTime = 0f;
+        fastTime = 0f;
+    }
+}
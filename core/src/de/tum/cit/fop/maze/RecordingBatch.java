@@ -0,0 +1,448 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * A SpriteBatch that records into a RenderSnapshot instead of drawing, so that the existing render
+ * code can run on the simulation thread, and the world can be drawn in blend layers.
+ *
+ * <p>None of the overridden methods touch OpenGL. The vertices are computed exactly like
+ * SpriteBatch does, with the current packed color. Must be created (and disposed) on the render
+ * thread, as the underlying SpriteBatch allocates a mesh and shader there, which stay unused.
+ */
+public class RecordingBatch extends SpriteBatch {
+    private RenderSnapshot target;
+    private boolean drawing = false;
+    private boolean blending = true;
+    private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+    private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+    private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+    private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+    public RecordingBatch() {
+        // the real batch buffers are never filled
+        super(1);
+    }
+
+    /** Sets the snapshot to record into, and resets the blend state to the default. */
+    public void setTarget(RenderSnapshot target) {
+        this.target = target;
+        blending = true;
+        blendSrcFunc = GL20.GL_SRC_ALPHA;
+        blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+        blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+        blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+    }
+
+    @Override
+    public void begin() {
+        if (drawing) {
+            throw new IllegalStateException("RecordingBatch.end must be called before begin.");
+        }
+        drawing = true;
+    }
+
+    @Override
+    public void end() {
+        if (!drawing) {
+            throw new IllegalStateException("RecordingBatch.begin must be called before end.");
+        }
+        drawing = false;
+    }
+
+    @Override
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void flush() {
+        // nothing buffered
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {
+        // the render thread always replays with the default shader
+    }
+
+    @Override
+    public void setProjectionMatrix(Matrix4 projection) {
+        // the projection is taken from the camera state of the snapshot
+    }
+
+    @Override
+    public void setTransformMatrix(Matrix4 transform) {
+        // not used by the world rendering
+    }
+
+    @Override
+    public void disableBlending() {
+        if (!blending) return;
+        blending = false;
+        target.addBlending(false);
+    }
+
+    @Override
+    public void enableBlending() {
+        if (blending) return;
+        blending = true;
+        target.addBlending(true);
+    }
+
+    @Override
+    public boolean isBlendingEnabled() {
+        return blending;
+    }
+
+    @Override
+    public void setBlendFunctionSeparate(
+            int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+        if (blendSrcFunc == srcFuncColor
+                && blendDstFunc == dstFuncColor
+                && blendSrcFuncAlpha == srcFuncAlpha
+                && blendDstFuncAlpha == dstFuncAlpha) return;
+        blendSrcFunc = srcFuncColor;
+        blendDstFunc = dstFuncColor;
+        blendSrcFuncAlpha = srcFuncAlpha;
+        blendDstFuncAlpha = dstFuncAlpha;
+        target.addBlendFunction(srcFuncColor, dstFuncColor, srcFuncAlpha, dstFuncAlpha);
+    }
+
+    @Override
+    public int getBlendSrcFunc() {
+        return blendSrcFunc;
+    }
+
+    @Override
+    public int getBlendDstFunc() {
+        return blendDstFunc;
+    }
+
+    @Override
+    public int getBlendSrcFuncAlpha() {
+        return blendSrcFuncAlpha;
+    }
+
+    @Override
+    public int getBlendDstFuncAlpha() {
+        return blendDstFuncAlpha;
+    }
+
+    @Override
+    public void draw(
+            Texture texture,
+            float x,
+            float y,
+            float originX,
+            float originY,
+            float width,
+            float height,
+            float scaleX,
+            float scaleY,
+            float rotation,
+            int srcX,
+            int srcY,
+            int srcWidth,
+            int srcHeight,
+            boolean flipX,
+            boolean flipY) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        float u = srcX * invTexWidth;
+        float v = (srcY + srcHeight) * invTexHeight;
+        float u2 = (srcX + srcWidth) * invTexWidth;
+        float v2 = srcY * invTexHeight;
+        if (flipX) {
+            float tmp = u;
+            u = u2;
+            u2 = tmp;
+        }
+        if (flipY) {
+            float tmp = v;
+            v = v2;
+            v2 = tmp;
+        }
+        transformed(
+                texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u,
+                v2, u2, v2, u2, v);
+    }
+
+    @Override
+    public void draw(
+            Texture texture,
+            float x,
+            float y,
+            float width,
+            float height,
+            int srcX,
+            int srcY,
+            int srcWidth,
+            int srcHeight,
+            boolean flipX,
+            boolean flipY) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        float u = srcX * invTexWidth;
+        float v = (srcY + srcHeight) * invTexHeight;
+        float u2 = (srcX + srcWidth) * invTexWidth;
+        float v2 = srcY * invTexHeight;
+        if (flipX) {
+            float tmp = u;
+            u = u2;
+            u2 = tmp;
+        }
+        if (flipY) {
+            float tmp = v;
+            v = v2;
+            v2 = tmp;
+        }
+        draw(texture, x, y, width, height, u, v, u2, v2);
+    }
+
+    @Override
+    public void draw(
+            Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        draw(
+                texture,
+                x,
+                y,
+                srcWidth,
+                srcHeight,
+                srcX * invTexWidth,
+                (srcY + srcHeight) * invTexHeight,
+                (srcX + srcWidth) * invTexWidth,
+                srcY * invTexHeight);
+    }
+
+    @Override
+    public void draw(
+            Texture texture,
+            float x,
+            float y,
+            float width,
+            float height,
+            float u,
+            float v,
+            float u2,
+            float v2) {
+        float fx2 = x + width;
+        float fy2 = y + height;
+        quad(texture, x, y, u, v, x, fy2, u, v2, fx2, fy2, u2, v2, fx2, y, u2, v);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        draw(texture, x, y, texture.getWidth(), texture.getHeight());
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        draw(texture, x, y, width, height, 0f, 1f, 1f, 0f);
+    }
+
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        if (!drawing) {
+            throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+        }
+        target.addSprites(texture, spriteVertices, offset, count);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        draw(
+                region.getTexture(),
+                x,
+                y,
+                width,
+                height,
+                region.getU(),
+                region.getV2(),
+                region.getU2(),
+                region.getV());
+    }
+
+    @Override
+    public void draw(
+            TextureRegion region,
+            float x,
+            float y,
+            float originX,
+            float originY,
+            float width,
+            float height,
+            float scaleX,
+            float scaleY,
+            float rotation) {
+        float u = region.getU();
+        float v = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+        transformed(
+                region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY,
+                rotation, u, v, u, v2, u2, v2, u2, v);
+    }
+
+    @Override
+    public void draw(
+            TextureRegion region,
+            float x,
+            float y,
+            float originX,
+            float originY,
+            float width,
+            float height,
+            float scaleX,
+            float scaleY,
+            float rotation,
+            boolean clockwise) {
+        if (!clockwise) {
+            transformed(
+                    region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY,
+                    rotation, region.getU(), region.getV(), region.getU2(), region.getV(),
+                    region.getU2(), region.getV2(), region.getU(), region.getV2());
+        } else {
+            transformed(
+                    region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY,
+                    rotation, region.getU2(), region.getV2(), region.getU(), region.getV2(),
+                    region.getU(), region.getV(), region.getU2(), region.getV());
+        }
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        float x1 = transform.m02;
+        float y1 = transform.m12;
+        float x2 = transform.m01 * height + transform.m02;
+        float y2 = transform.m11 * height + transform.m12;
+        float x3 = transform.m00 * width + transform.m01 * height + transform.m02;
+        float y3 = transform.m10 * width + transform.m11 * height + transform.m12;
+        float x4 = transform.m00 * width + transform.m02;
+        float y4 = transform.m10 * width + transform.m12;
+        float u = region.getU();
+        float v = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+        quad(region.getTexture(), x1, y1, u, v, x2, y2, u, v2, x3, y3, u2, v2, x4, y4, u2, v);
+    }
+
+    /** Scales and rotates a rectangle around its origin, see SpriteBatch. */
+    private void transformed(
+            Texture texture,
+            float x,
+            float y,
+            float originX,
+            float originY,
+            float width,
+            float height,
+            float scaleX,
+            float scaleY,
+            float rotation,
+            float u1,
+            float v1,
+            float u2,
+            float v2,
+            float u3,
+            float v3,
+            float u4,
+            float v4) {
+        float worldOriginX = x + originX;
+        float worldOriginY = y + originY;
+        float fx = -originX * scaleX;
+        float fy = -originY * scaleY;
+        float fx2 = (width - originX) * scaleX;
+        float fy2 = (height - originY) * scaleY;
+
+        float x1, y1, x2, y2, x3, y3, x4, y4;
+        if (rotation != 0) {
+            float cos = MathUtils.cosDeg(rotation);
+            float sin = MathUtils.sinDeg(rotation);
+            x1 = cos * fx - sin * fy;
+            y1 = sin * fx + cos * fy;
+            x2 = cos * fx - sin * fy2;
+            y2 = sin * fx + cos * fy2;
+            x3 = cos * fx2 - sin * fy2;
+            y3 = sin * fx2 + cos * fy2;
+            x4 = x1 + (x3 - x2);
+            y4 = y3 - (y2 - y1);
+        } else {
+            x1 = fx;
+            y1 = fy;
+            x2 = fx;
+            y2 = fy2;
+            x3 = fx2;
+            y3 = fy2;
+            x4 = fx2;
+            y4 = fy;
+        }
+        quad(
+                texture,
+                x1 + worldOriginX, y1 + worldOriginY, u1, v1,
+                x2 + worldOriginX, y2 + worldOriginY, u2, v2,
+                x3 + worldOriginX, y3 + worldOriginY, u3, v3,
+                x4 + worldOriginX, y4 + worldOriginY, u4, v4);
+    }
+
+    private void quad(
+            Texture texture,
+            float x1,
+            float y1,
+            float u1,
+            float v1,
+            float x2,
+            float y2,
+            float u2,
+            float v2,
+            float x3,
+            float y3,
+            float u3,
+            float v3,
+            float x4,
+            float y4,
+            float u4,
+            float v4) {
+        if (!drawing) {
+            throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+        }
+        float color = getPackedColor();
+        int idx = target.addSprite(texture);
+        float[] vertices = target.getVertices();
+        vertices[idx] = x1;
+        vertices[idx + 1] = y1;
+        vertices[idx + 2] = color;
+        vertices[idx + 3] = u1;
+        vertices[idx + 4] = v1;
+
+        vertices[idx + 5] = x2;
+        vertices[idx + 6] = y2;
+        vertices[idx + 7] = color;
+        vertices[idx + 8] = u2;
+        vertices[idx + 9] = v2;
+
+        vertices[idx + 10] = x3;
+        vertices[idx + 11] = y3;
+        vertices[idx + 12] = color;
+        vertices[idx + 13] = u3;
+        vertices[idx + 14] = v3;
+
+        vertices[idx + 15] = x4;
+        vertices[idx + 16] = y4;
+        vertices[idx + 17] = color;
+        vertices[idx + 18] = u4;
+        vertices[idx + 19] = v4;
+    }
+}
@@ -0,0 +1,181 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Everything the render thread needs to draw one simulated frame of the game screen.
+ *
+ * <p>The world is stored as a list of draw commands over sprite vertices in the SpriteBatch format
+ * (x, y, packed color, u, v per corner), recorded by a RecordingBatch on the simulation thread.
+ * Snapshots are reused through a TripleBuffer, the owner clears one before filling it again.
+ *
+ * <p>Every draw command is tagged with the blend state it was recorded in, its layer. replay()
+ * draws layer by layer: first all sprites of the default alpha blended layer, then e.g. all
+ * additive glows, so that the effects switching the blend function do not flush the batch in
+ * between sprites. Within a layer the recording order is kept, but later layers always end up on
+ * top of earlier ones. The single-threaded game screen records into a snapshot as well, to get the
+ * same ordering.
+ */
+public class RenderSnapshot {
+    /** Floats per sprite: 4 corners of x, y, color, u, v. */
+    public static final int SPRITE_SIZE = 20;
+
+    // a command is: texture index, vertex offset, vertex count, layer
+    private static final int COMMAND_SIZE = 4;
+    // a layer is: blending enabled, then the 4 factors of setBlendFunctionSeparate()
+    private static final int LAYER_SIZE = 5;
+
+    private final FloatArray vertices = new FloatArray(SPRITE_SIZE * 1024);
+    private final IntArray commands = new IntArray(COMMAND_SIZE * 64);
+    private final Array<Texture> textures = new Array<>(false, 64);
+    private final IntArray layers = new IntArray(LAYER_SIZE * 4);
+    // layer of the sprites recorded next
+    private int layer;
+
+    // camera, with the screen shake already applied
+    public float cameraX;
+    public float cameraY;
+    public float cameraZoom = 1f;
+    public float viewportWidth;
+    public float viewportHeight;
+
+    // player and HUD state
+    public float playerX;
+    public float playerY;
+    public int health;
+    public boolean hasKey;
+    public float speedFactor;
+    public boolean hasShield;
+    public float compassDeg;
+    public boolean spaceshipMode;
+    // lights for the fog of war, see Maze.getLights()
+    public final FloatArray lights = new FloatArray();
+    // mobs shown on the minimap, see Minimap.collectMarkers()
+    public final FloatArray minimapMarkers = new FloatArray();
+
+    public RenderSnapshot() {
+        clear();
+    }
+
+    /** Removes all recorded draw commands. */
+    public void clear() {
+        vertices.clear();
+        commands.clear();
+        textures.clear();
+        lights.clear();
+        minimapMarkers.clear();
+        // layer 0 is the default state, as set by replay()
+        layers.clear();
+        layers.add(1, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_SRC_ALPHA);
+        layers.add(GL20.GL_ONE_MINUS_SRC_ALPHA);
+        layer = 0;
+    }
+
+    /** Returns the number of recorded sprites. */
+    public int getSpriteCount() {
+        return vertices.size / SPRITE_SIZE;
+    }
+
+    /** Returns the number of distinct blend states recorded, each costs a flush in replay(). */
+    public int getLayerCount() {
+        return layers.size / LAYER_SIZE;
+    }
+
+    /**
+     * Reserves room for one sprite drawn with texture and returns the offset its vertices must be
+     * written at, in the array returned by getVertices().
+     */
+    int addSprite(Texture texture) {
+        int offset = reserve(texture, SPRITE_SIZE);
+        vertices.setSize(offset + SPRITE_SIZE);
+        return offset;
+    }
+
+    /** Records sprites given in the SpriteBatch vertex format. */
+    void addSprites(Texture texture, float[] spriteVertices, int offset, int count) {
+        reserve(texture, count);
+        vertices.addAll(spriteVertices, offset, count);
+    }
+
+    void addBlendFunction(int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+        layer = findLayer(layers.get(layer * LAYER_SIZE), srcRGB, dstRGB, srcAlpha, dstAlpha);
+    }
+
+    void addBlending(boolean enabled) {
+        int base = layer * LAYER_SIZE;
+        layer =
+                findLayer(
+                        enabled ? 1 : 0,
+                        layers.get(base + 1),
+                        layers.get(base + 2),
+                        layers.get(base + 3),
+                        layers.get(base + 4));
+    }
+
+    /** Returns the recorded vertices, only valid until the next sprite is added. */
+    float[] getVertices() {
+        return vertices.items;
+    }
+
+    /**
+     * Draws the recorded commands with batch, which must be drawing, one layer after the other.
+     * Leaves the batch with the default blend state.
+     */
+    public void replay(SpriteBatch batch) {
+        int[] items = commands.items;
+        int layerCount = getLayerCount();
+        for (int l = 0; l < layerCount; ++l) {
+            applyLayer(batch, l);
+            for (int i = 0; i < commands.size; i += COMMAND_SIZE) {
+                if (items[i + 3] != l) continue;
+                batch.draw(textures.get(items[i]), vertices.items, items[i + 1], items[i + 2]);
+            }
+        }
+        applyLayer(batch, 0);
+    }
+
+    private void applyLayer(SpriteBatch batch, int l) {
+        int[] state = layers.items;
+        int base = l * LAYER_SIZE;
+        if (state[base] != 0) batch.enableBlending();
+        else batch.disableBlending();
+        batch.setBlendFunctionSeparate(
+                state[base + 1], state[base + 2], state[base + 3], state[base + 4]);
+    }
+
+    /** Returns the layer with the given blend state, adding it if it is new. */
+    private int findLayer(int blending, int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+        int[] state = layers.items;
+        for (int base = 0; base < layers.size; base += LAYER_SIZE) {
+            if (state[base] == blending
+                    && state[base + 1] == srcRGB
+                    && state[base + 2] == dstRGB
+                    && state[base + 3] == srcAlpha
+                    && state[base + 4] == dstAlpha) return base / LAYER_SIZE;
+        }
+        layers.add(blending, srcRGB, dstRGB, srcAlpha);
+        layers.add(dstAlpha);
+        return getLayerCount() - 1;
+    }
+
+    /** Adds count vertex floats to the draw commands, returns where they start. */
+    private int reserve(Texture texture, int count) {
+        int offset = vertices.size;
+        int last = commands.size - COMMAND_SIZE;
+        if (last >= 0
+                && commands.get(last + 3) == layer
+                && textures.get(commands.get(last)) == texture) {
+            // same texture and layer as the previous draw, extend it instead of adding a command
+            commands.incr(last + 2, count);
+        } else {
+            commands.add(textures.size, offset, count, layer);
+            textures.add(texture);
+        }
+        return offset;
+    }
+}
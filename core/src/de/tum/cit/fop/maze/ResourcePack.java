@@ -1,8 +1,12 @@
 package de.tum.cit.fop.maze;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
@@ -10,8 +14,41 @@
 
 import java.util.function.Function;
 
-/** load and serves art assets */
-public class ResourcePack { // Character animation
+/**
+ * load and serves art assets
+ *
+ * <p>All gameplay sheets and the white pixel are packed into shared atlas pages at startup, so
+ * that the SpriteBatch rarely has to switch textures (and flush) while drawing a frame.
+ */
+public class ResourcePack {
+    // every file in here is packed into the atlas, regions are cut from the packed sheets
+    private static final String[] SHEETS = {
+        "basictiles.png",
+        "character.png",
+        "mobs.png",
+        "Key.png",
+        "Lives.png",
+        "halfLives.png",
+        "Lightning.png",
+        "Armor.png",
+        "electric03.png",
+        "electric04.png",
+        "explosion1.png",
+        "explosion2.png",
+        "explosion3.png",
+        "explosion4.png",
+        "wall.png",
+        "floor01.png",
+        "door.png",
+        "Skull.png",
+        "spaceship.png"
+    };
+    private static final String WHITE = "white";
+    private static final int PAGE_SIZE = 1024;
+
+    private final TextureAtlas atlas;
+    private TextureRegion whitePixel;
+    // Character animation
     private MoveAnimation playerWalkAnimation;
     private MoveAnimation playerSprintAnimation;
     private MoveAnimation playerAttackAnimation;
@@ -33,6 +70,10 @@ public class ResourcePack { // Character animation
     private TextureRegion spaceshipTexture;
 
     public ResourcePack() {
+        atlas = packAtlas();
+        // the center of a 3x3 white block, so that filtering never samples a neighbouring sprite
+        whitePixel = new TextureRegion(atlas.findRegion(WHITE), 1, 1, 1, 1);
+
         loadPlayerAnimation();
         loadMobTexture();
         loadBlockTexture();
@@ -51,6 +92,43 @@ public ResourcePack() {
         loadSpaceshipTexture();
     }
 
+    private static TextureAtlas packAtlas() {
+        PixmapPacker packer =
+                new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, true);
+        for (String sheet : SHEETS) {
+            Pixmap pixmap = new Pixmap(Gdx.files.internal(sheet));
+            packer.pack(sheet, pixmap);
+            pixmap.dispose();
+        }
+        Pixmap white = new Pixmap(3, 3, Pixmap.Format.RGBA8888);
+        white.setColor(Color.WHITE);
+        white.fill();
+        packer.pack(WHITE, white);
+        white.dispose();
+
+        TextureAtlas atlas =
+                packer.generateTextureAtlas(
+                        Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        packer.dispose();
+        Gdx.app.log(
+                "ResourcePack",
+                SHEETS.length + " sheets packed into " + atlas.getTextures().size + " atlas pages");
+        return atlas;
+    }
+
+    /** Returns the packed region of a whole sheet. */
+    private TextureRegion getSheet(String file) {
+        return atlas.findRegion(file);
+    }
+
+    /**
+     * Returns a white 1x1 region on the atlas, for effects that draw tinted rectangles. Drawing
+     * with it does not switch textures between sprites.
+     */
+    public TextureRegion getWhitePixel() {
+        return whitePixel;
+    }
+
     public MoveAnimation getPlayerAttackAnimation() {
         return playerAttackAnimation;
     }
@@ -76,7 +154,7 @@ public MoveAnimation getPlayerWalkAnimation() {
     }
 
     private void loadBlockTexture() {
-        Texture tilesSheet = new Texture(Gdx.files.internal("basictiles.png"));
+        TextureRegion tilesSheet = getSheet("basictiles.png");
 
         int tileSize = 16;
         blockTexture = new TextureRegion(tilesSheet, tileSize, 0, tileSize, tileSize);
@@ -85,7 +163,7 @@ private void loadBlockTexture() {
     }
 
     private void loadPlayerAnimation() {
-        Texture walkSheet = new Texture(Gdx.files.internal("character.png"));
+        TextureRegion walkSheet = getSheet("character.png");
 
         PixelVector size = new PixelVector(16, 32);
         int frameCount = 4;
@@ -157,7 +235,7 @@ private void loadPlayerAnimation() {
     }
 
     private void loadMobTexture() {
-        Texture origin = new Texture(Gdx.files.internal("mobs.png"));
+        TextureRegion origin = getSheet("mobs.png");
 
         PixelVector size = new PixelVector(16, 16);
         int frameCount = 3;
@@ -188,29 +266,29 @@ private void loadMobTexture() {
     }
 
     private void loadKeyTexture() {
-        Texture keySheet = new Texture(Gdx.files.internal("Key.png"));
+        TextureRegion keySheet = getSheet("Key.png");
         // 该资源是10x20
         keyTexture = new TextureRegion(keySheet, 0, 0, 10, 20);
     }
 
     private void loadHeartTextures() {
-        Texture fullHeartSheet = new Texture(Gdx.files.internal("Lives.png"));
+        TextureRegion fullHeartSheet = getSheet("Lives.png");
         fullHeartTexture =
                 new TextureRegion(
                         fullHeartSheet,
                         0,
                         0,
-                        fullHeartSheet.getWidth(),
-                        fullHeartSheet.getHeight());
+                        fullHeartSheet.getRegionWidth(),
+                        fullHeartSheet.getRegionHeight());
 
-        Texture halfHeartSheet = new Texture(Gdx.files.internal("halfLives.png"));
+        TextureRegion halfHeartSheet = getSheet("halfLives.png");
         halfHeartTexture =
                 new TextureRegion(
                         halfHeartSheet,
                         0,
                         0,
-                        halfHeartSheet.getWidth(),
-                        halfHeartSheet.getHeight());
+                        halfHeartSheet.getRegionWidth(),
+                        halfHeartSheet.getRegionHeight());
     }
 
     public TextureRegion getKeyTexture() {
@@ -222,7 +300,7 @@ public TextureRegion getFullHeartTexture() {
     }
 
     private void loadLightningTexture() {
-        Texture LightningSheet = new Texture(Gdx.files.internal("Lightning.png"));
+        TextureRegion LightningSheet = getSheet("Lightning.png");
         lightningTexture = new TextureRegion(LightningSheet, 0, 0, 16, 16);
     }
 
@@ -235,7 +313,7 @@ public TextureRegion getHalfHeartTexture() {
     }
 
     private void loadShieldTexture() {
-        Texture shieldSheet = new Texture(Gdx.files.internal("Armor.png"));
+        TextureRegion shieldSheet = getSheet("Armor.png");
         shieldTexture = new TextureRegion(shieldSheet, 0, 0, 16, 16);
     }
 
@@ -244,8 +322,8 @@ public TextureRegion getShieldTexture() {
     }
 
     private void loadTrapTexture() {
-        Texture trapSheet01 = new Texture(Gdx.files.internal("electric03.png"));
-        Texture trapSheet02 = new Texture(Gdx.files.internal("electric04.png"));
+        TextureRegion trapSheet01 = getSheet("electric03.png");
+        TextureRegion trapSheet02 = getSheet("electric04.png");
         TextureRegion frame1 = new TextureRegion(trapSheet01, 0, 0, 16, 16);
         TextureRegion frame2 = new TextureRegion(trapSheet02, 0, 0, 16, 16);
         trapAnimation = new Animation<>(0.3f, frame1, frame2);
@@ -253,49 +331,45 @@ private void loadTrapTexture() {
     }
 
     private void loadExplodeAnimation() {
-        TextureRegion explosion1 =
-            new TextureRegion(new Texture(Gdx.files.internal("explosion1.png")));
-        TextureRegion explosion2 =
-            new TextureRegion(new Texture(Gdx.files.internal("explosion2.png")));
-        TextureRegion explosion3 =
-            new TextureRegion(new Texture(Gdx.files.internal("explosion3.png")));
-        TextureRegion explosion4 =
-            new TextureRegion(new Texture(Gdx.files.internal("explosion4.png")));
+        TextureRegion explosion1 = new TextureRegion(getSheet("explosion1.png"));
+        TextureRegion explosion2 = new TextureRegion(getSheet("explosion2.png"));
+        TextureRegion explosion3 = new TextureRegion(getSheet("explosion3.png"));
+        TextureRegion explosion4 = new TextureRegion(getSheet("explosion4.png"));
 
         explosionAnimation = new Animation<>(0.3f,explosion1,explosion2,explosion3,explosion4);
     }
 
     private void loadWallTexture() {
-        Texture wallSheet = new Texture(Gdx.files.internal("wall.png"));
+        TextureRegion wallSheet = getSheet("wall.png");
         wallTexture = new TextureRegion(wallSheet, 0, 0, 16, 16);
     }
 
     private void loadPathTexture() {
-        Texture pathSheet = new Texture(Gdx.files.internal("floor01.png"));
+        TextureRegion pathSheet = getSheet("floor01.png");
         pathTexture = new TextureRegion(pathSheet, 0, 0, 16, 16);
     }
 
     private void loadExitTexture() {
-        Texture tilesSheet = new Texture(Gdx.files.internal("door.png"));
+        TextureRegion tilesSheet = getSheet("door.png");
 
         int tileSize = 16;
         exitTexture = new TextureRegion(tilesSheet, 0, 0, tileSize, tileSize);
     }
 
     private void loadEntryTexture() {
-        Texture tilesSheet = new Texture(Gdx.files.internal("basictiles.png"));
+        TextureRegion tilesSheet = getSheet("basictiles.png");
 
         int tileSize = 16;
         entryTexture = new TextureRegion(tilesSheet, 16, 112, tileSize, tileSize);
     }
 
     public void loadMineTexture() {
-        Texture mineSheet = new Texture(Gdx.files.internal("Skull.png"));
+        TextureRegion mineSheet = getSheet("Skull.png");
         mineTexture = new TextureRegion(mineSheet, 0, 0, 16, 16);
     }
 
     private void loadSpaceshipTexture() {
-        Texture ship = new Texture(Gdx.files.internal("spaceship.png"));
+        TextureRegion ship = getSheet("spaceship.png");
         spaceshipTexture = new TextureRegion(ship);
     }
 
@@ -341,7 +415,11 @@ public TextureRegion getSpaceshipTexture() {
      * @param count number of frames to be loaded in total * @return desired textures
      */
     private Array<TextureRegion> loadTextureArray(
-            Texture origin, PixelVector position, PixelVector size, PixelVector offset, int count) {
+            TextureRegion origin,
+            PixelVector position,
+            PixelVector size,
+            PixelVector offset,
+            int count) {
         Array<TextureRegion> result = new Array<>();
         for (int i = 0; i < count; ++i) {
             // start position of current texture
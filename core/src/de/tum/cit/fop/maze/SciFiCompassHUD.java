@@ -5,7 +5,6 @@
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 
@@ -22,11 +21,15 @@
  *
  * Layers (bottom to top):
  * 1. Inner radar disc (very translucent)
- * 2. Radar sweep line (rotating)
- * 3. Segmented outer ring (slow counter-rotation)
- * 4. Cardinal markers (N/E/S/W as small HUD glyphs)
- * 5. Direction arrow with energy trail (glowing, points to target)
- * 6. Center dot / crosshair
+ * 2. Segmented outer ring (slow counter-rotation)
+ * 3. Cardinal markers (N/E/S/W as small HUD glyphs)
+ * 4. Center dot / crosshair
+ * 5. Radar sweep line (rotating)
+ * 6. Direction arrow with energy trail (glowing, points to target)
+ *
+ * Layers 1-2 (renderDial) and 3-4 (renderMarkers) never change, the HUD caches them and draws
+ * them with the flicker of getFlicker(), the dial rotated by getRingAngle(). Only the sweep and
+ * the arrow (renderAnimated) are drawn every frame.
  */
 public class SciFiCompassHUD {
 
@@ -102,7 +105,9 @@ public class SciFiCompassHUD {
 
     // Font for cardinal markers (use default bitmap font, small scale)
     private BitmapFont hudFont;
-    private final GlyphLayout glyphLayout = new GlyphLayout();
+    private static final String[] CARDINAL_NAMES = {"E", "N", "W", "S"};
+    private static final float[] CARDINAL_ANGLES = {0f, 90f, 180f, 270f};
+    private final TextLabel[] cardinals = new TextLabel[CARDINAL_NAMES.length];
 
     // State
     private float targetAngleDeg = 0f;
@@ -110,6 +115,7 @@ public class SciFiCompassHUD {
     private float outerRingAngle = 0f;
     private float sweepAngle = 0f;
     private float time = 0f;
+    private float flicker = 1f;
 
     // Trail ring buffer (fixed size, no allocation)
     private final float[] trailAngles = new float[TRAIL_COUNT];
@@ -124,6 +130,9 @@ public SciFiCompassHUD() {
         hudFont = new BitmapFont(); // default font, will scale down
         hudFont.getData().setScale(0.45f);
         hudFont.setColor(primaryColor);
+        for (int i = 0; i < cardinals.length; i++) {
+            cardinals[i] = new TextLabel(hudFont, CARDINAL_NAMES[i]);
+        }
         // Initialize trail buffer
         for (int i = 0; i < TRAIL_COUNT; i++) {
             trailAngles[i] = 0f;
@@ -168,54 +177,90 @@ public void update(float dt) {
 
         // Radar sweep rotation
         sweepAngle = normalizeDeg(sweepAngle + sweepRotationSpeed * dt);
+
+        // Flicker multiplier
+        flicker = 1f - flickerIntensity * 0.5f
+                + flickerIntensity * 0.5f * MathUtils.sin(time * flickerFreq * MathUtils.PI2);
+        // Occasional micro-dropout
+        if (MathUtils.random() < 0.02f) flicker *= 0.7f;
+    }
+
+    /** Size of the HUD box in HUD world units. */
+    public float getSize() {
+        return BASE_SIZE * scale;
+    }
+
+    /** Left edge of the HUD box, at the top-left of the viewport. */
+    public float getX() {
+        return margin;
+    }
+
+    /** Bottom edge of the HUD box, at the top-left of a viewport viewportHeight high. */
+    public float getY(float viewportHeight) {
+        return viewportHeight - getSize() - margin;
+    }
+
+    /** Current rotation of the outer ring, in degrees. */
+    public float getRingAngle() {
+        return outerRingAngle;
+    }
+
+    /** Current brightness multiplier of the whole compass, around 1. */
+    public float getFlicker() {
+        return flicker;
     }
 
     /**
-     * Render the HUD at top-left of viewport.
-     * Assumes batch is NOT begun; will begin/end internally.
+     * Render the inner disc and the outer ring, unrotated, into the HUD box at (x, y). Assumes the
+     * batch is begun on a CachedLayer.
      */
-    public void render(SpriteBatch batch, float viewportWidth, float viewportHeight) {
-        float size = BASE_SIZE * scale;
-        float x = margin;
-        float y = viewportHeight - size - margin;
-
-        batch.begin();
-        renderAt(batch, x, y, size);
-        batch.end();
+    public void renderDial(SpriteBatch batch, float x, float y, float size) {
+        float cx = x + size / 2f;
+        float cy = y + size / 2f;
+        float r = size / 2f;
+
+        // === Layer 1: Inner radar disc ===
+        drawDisc(batch, cx, cy, r * 0.75f, discAlpha);
+
+        // === Layer 2: Segmented outer ring ===
+        drawSegmentedRing(batch, cx, cy, r * 0.92f, r * 0.82f, ringAlpha);
+
+        batch.setColor(Color.WHITE);
     }
 
     /**
-     * Render at specific position (bottom-left of HUD box). Assumes batch is begun.
+     * Render the cardinal markers and the center crosshair into the HUD box at (x, y). Assumes the
+     * batch is begun on a CachedLayer.
      */
-    public void renderAt(SpriteBatch batch, float x, float y, float size) {
+    public void renderMarkers(SpriteBatch batch, float x, float y, float size) {
         float cx = x + size / 2f;
         float cy = y + size / 2f;
         float r = size / 2f;
 
-        // Compute flicker multiplier
-        float flicker = 1f - flickerIntensity * 0.5f
-                + flickerIntensity * 0.5f * MathUtils.sin(time * flickerFreq * MathUtils.PI2);
-        // Occasional micro-dropout
-        if (MathUtils.random() < 0.02f) flicker *= 0.7f;
+        // === Layer 3: Cardinal markers (N/E/S/W) ===
+        drawCardinals(batch, cx, cy, r * 0.62f);
 
-        // === Layer 1: Inner radar disc ===
-        drawDisc(batch, cx, cy, r * 0.75f, discAlpha * flicker);
+        // === Layer 4: Center crosshair / dot ===
+        drawCenterCrosshair(batch, cx, cy, r * 0.08f);
 
-        // === Layer 2: Radar sweep line ===
-        drawSweep(batch, cx, cy, r * 0.72f, sweepAlpha * flicker);
+        batch.setColor(Color.WHITE);
+    }
 
-        // === Layer 3: Segmented outer ring ===
-        drawSegmentedRing(batch, cx, cy, r * 0.92f, r * 0.82f, ringAlpha * flicker);
+    /**
+     * Render the sweep and the direction arrow into the HUD box at (x, y), on top of the cached
+     * layers. Assumes batch is begun.
+     */
+    public void renderAnimated(SpriteBatch batch, float x, float y, float size) {
+        float cx = x + size / 2f;
+        float cy = y + size / 2f;
+        float r = size / 2f;
 
-        // === Layer 4: Cardinal markers (N/E/S/W) ===
-        drawCardinals(batch, cx, cy, r * 0.62f, flicker);
+        // === Layer 5: Radar sweep line ===
+        drawSweep(batch, cx, cy, r * 0.72f, sweepAlpha * flicker);
 
-        // === Layer 5: Direction arrow / light cone ===
+        // === Layer 6: Direction arrow / light cone ===
         drawDirectionArrow(batch, cx, cy, r * 0.55f, flicker);
 
-        // === Layer 6: Center crosshair / dot ===
-        drawCenterCrosshair(batch, cx, cy, r * 0.08f, flicker);
-
         // Restore
         batch.setColor(Color.WHITE);
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -225,7 +270,7 @@ public void renderAt(SpriteBatch batch, float x, float y, float size) {
 
     private void drawDisc(SpriteBatch batch, float cx, float cy, float radius, float alpha) {
         // Draw as a filled circle approximation using segments
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        CachedLayer.blendOver(batch);
         tmpColor.set(primaryColor.r * 0.3f, primaryColor.g * 0.4f, primaryColor.b * 0.5f, alpha);
         batch.setColor(tmpColor);
 
@@ -275,17 +320,18 @@ private void drawSweep(SpriteBatch batch, float cx, float cy, float radius, floa
 
     private void drawSegmentedRing(SpriteBatch batch, float cx, float cy,
                                    float outerR, float innerR, float alpha) {
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+        CachedLayer.blendAdditive(batch);
 
         float segmentArc = (360f - OUTER_SEGMENTS * SEGMENT_GAP_DEG) / OUTER_SEGMENTS;
         float thickness = outerR - innerR;
         float midR = (outerR + innerR) / 2f;
 
         for (int i = 0; i < OUTER_SEGMENTS; i++) {
-            float startAng = outerRingAngle + i * (segmentArc + SEGMENT_GAP_DEG);
+            // Unrotated, the cached ring is rotated as a whole
+            float startAng = i * (segmentArc + SEGMENT_GAP_DEG);
 
             // Vary alpha slightly per segment for electronic feel
-            float segAlpha = alpha * (0.7f + 0.3f * MathUtils.sin(time * 3f + i * 1.1f));
+            float segAlpha = alpha * (0.7f + 0.3f * MathUtils.sin(i * 1.1f));
             tmpColor.set(primaryColor.r, primaryColor.g, primaryColor.b, segAlpha);
             batch.setColor(tmpColor);
 
@@ -308,32 +354,27 @@ private void drawSegmentedRing(SpriteBatch batch, float cx, float cy,
         batch.setColor(tmpColor);
         drawRing(batch, cx, cy, outerR + 1f, 2f, 48);
 
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        CachedLayer.blendOver(batch);
     }
 
-    private void drawCardinals(SpriteBatch batch, float cx, float cy, float radius, float flicker) {
-        String[] labels = {"E", "N", "W", "S"};
-        float[] angles = {0f, 90f, 180f, 270f};
+    private void drawCardinals(SpriteBatch batch, float cx, float cy, float radius) {
+        CachedLayer.blendAdditive(batch);
 
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
-
-        for (int i = 0; i < 4; i++) {
+        for (int i = 0; i < cardinals.length; i++) {
             // Cardinals rotate opposite to direction (they're fixed in world, we rotate)
             // Actually for a HUD, cardinals are fixed on screen. Let's keep them static.
-            float ang = angles[i];
+            float ang = CARDINAL_ANGLES[i];
             float lx = cx + MathUtils.cosDeg(ang) * radius;
             float ly = cy + MathUtils.sinDeg(ang) * radius;
 
-            // Slight pulse
-            float pulse = 0.7f + 0.3f * MathUtils.sin(time * 2.5f + i * 0.8f);
-            tmpColor.set(primaryColor.r, primaryColor.g, primaryColor.b, 0.6f * flicker * pulse);
-            hudFont.setColor(tmpColor);
-
-            glyphLayout.setText(hudFont, labels[i]);
-            hudFont.draw(batch, labels[i], lx - glyphLayout.width / 2f, ly + glyphLayout.height / 2f);
+            // Slight variation per marker
+            float pulse = 0.7f + 0.3f * MathUtils.sin(i * 0.8f);
+            tmpColor.set(primaryColor.r, primaryColor.g, primaryColor.b, 0.6f * pulse);
+            TextLabel label = cardinals[i];
+            label.draw(batch, tmpColor, lx - label.getWidth() / 2f, ly + label.getHeight() / 2f);
         }
 
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        CachedLayer.blendOver(batch);
     }
 
     private void drawDirectionArrow(SpriteBatch batch, float cx, float cy, float length, float flicker) {
@@ -447,15 +488,15 @@ private void drawDirectionArrow(SpriteBatch batch, float cx, float cy, float len
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
     }
 
-    private void drawCenterCrosshair(SpriteBatch batch, float cx, float cy, float size, float flicker) {
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+    private void drawCenterCrosshair(SpriteBatch batch, float cx, float cy, float size) {
+        CachedLayer.blendAdditive(batch);
 
         // Small crosshair
         float len = size * 2.5f;
         float thick = Math.max(1f, size * 0.4f);
         float gap = size * 0.8f;
 
-        tmpColor.set(primaryColor.r, primaryColor.g, primaryColor.b, 0.7f * flicker);
+        tmpColor.set(primaryColor.r, primaryColor.g, primaryColor.b, 0.7f);
         batch.setColor(tmpColor);
 
         // Horizontal
@@ -466,12 +507,12 @@ private void drawCenterCrosshair(SpriteBatch batch, float cx, float cy, float si
         drawSegment(batch, cx, cy + gap, cx, cy + len, thick);
 
         // Center dot
-        tmpColor.set(highlightColor.r, highlightColor.g, highlightColor.b, 0.9f * flicker);
+        tmpColor.set(highlightColor.r, highlightColor.g, highlightColor.b, 0.9f);
         batch.setColor(tmpColor);
         float dotSize = Math.max(2f, size * 0.7f);
         batch.draw(pixelTex, cx - dotSize / 2f, cy - dotSize / 2f, dotSize, dotSize);
 
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        CachedLayer.blendOver(batch);
     }
 
     // ==================== Primitives ====================
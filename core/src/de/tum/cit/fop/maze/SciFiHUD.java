@@ -5,7 +5,6 @@
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -13,6 +12,8 @@
 /**
  * Futuristic HUD (spaceship/helmet style). Uses only a 1x1 white pixel + font (no per-frame allocations).
  * Layout: top-left segmented energy bar, and modular status panels for Key / Shield / Speed.
+ * Split into renderStatic(), which the HUD caches until a setter reports a change, and
+ * renderAnimated(), drawn every frame.
  */
 public class SciFiHUD {
 
@@ -36,6 +37,8 @@ public class SciFiHUD {
     public float outlineAlpha = 0.65f;
     public float pulseFreq = 3.2f; // Hz, low-health pulse
 
+    private static final float LOW_HEALTH = 0.32f;
+
     // -------- State --------
     private float health01 = 1f;
     private boolean hasKey = false;
@@ -44,14 +47,25 @@ public class SciFiHUD {
 
     // -------- Rendering assets --------
     private final Texture pixel;
-    private final BitmapFont font;
-    private final GlyphLayout layout = new GlyphLayout();
-    private final StringBuilder sb = new StringBuilder(32);
+    private final TextLabel keyTitle;
+    private final TextLabel keyValue;
+    private final TextLabel shieldTitle;
+    private final TextLabel shieldValue;
+    private final TextLabel speedTitle;
+    private final TextLabel speedText;
 
     private float time = 0f;
+    // position of the health bar, as of the last renderStatic()
+    private float barX;
+    private float barY;
 
     public SciFiHUD(BitmapFont font) {
-        this.font = font;
+        keyTitle = new TextLabel(font, "KEY");
+        keyValue = new TextLabel(font);
+        shieldTitle = new TextLabel(font, "SHIELD");
+        shieldValue = new TextLabel(font);
+        speedTitle = new TextLabel(font, "SPEED");
+        speedText = new TextLabel(font);
         this.pixel = makePixel();
     }
 
@@ -66,28 +80,51 @@ private Texture makePixel() {
     }
 
     // -------- State setters --------
-    public void setHealth(float current, float max) {
-        health01 = max <= 0 ? 0 : MathUtils.clamp(current / max, 0f, 1f);
+    // each returns whether the change shows, so that the cached HUD must be drawn again
+
+    public boolean setHealth(float current, float max) {
+        float value = max <= 0 ? 0 : MathUtils.clamp(current / max, 0f, 1f);
+        boolean changed = filledSegments(value) != filledSegments(health01)
+                || isLow(value) != isLow(health01);
+        health01 = value;
+        return changed;
     }
 
-    public void setKeyCollected(boolean hasKey) { this.hasKey = hasKey; }
-    public void setShieldActive(boolean active) { this.shieldActive = active; }
-    public void setSpeed(float speed) { this.speedValue = speed; }
+    public boolean setKeyCollected(boolean hasKey) {
+        boolean changed = this.hasKey != hasKey;
+        this.hasKey = hasKey;
+        return changed;
+    }
+
+    public boolean setShieldActive(boolean active) {
+        boolean changed = shieldActive != active;
+        shieldActive = active;
+        return changed;
+    }
+
+    public boolean setSpeed(float speed) {
+        boolean changed = MathUtils.round(speed) != MathUtils.round(speedValue);
+        speedValue = speed;
+        return changed;
+    }
 
     public void update(float dt) {
         time += dt;
     }
 
-    /** Render HUD using HUD camera projection. Caller must have set the batch projection matrix. */
-    public void render(SpriteBatch batch, Viewport hudViewport) {
+    /**
+     * Render everything that only changes with the state, e.g. into a cached layer, in the
+     * coordinates of the HUD viewport.
+     */
+    public void renderStatic(SpriteBatch batch, Viewport hudViewport) {
         float vpw = hudViewport.getWorldWidth();
         float vph = hudViewport.getWorldHeight();
 
         float gapPanels = 10f;
         float totalPanelsW = panelWidth * 3f + gapPanels * 2f;
 
-        float barX = (vpw - barWidth) * 0.5f;
-        float barY = vph - padding - barHeight - 10f;
+        barX = (vpw - barWidth) * 0.5f;
+        barY = vph - padding - barHeight - 10f;
 
         float panelY = barY - panelHeight - 12f;
         float panelX0 = (vpw - totalPanelsW) * 0.5f;
@@ -98,51 +135,56 @@ public void render(SpriteBatch batch, Viewport hudViewport) {
         drawHealthBar(batch, barX, barY);
 
         // Draw panels
+        keyValue.setText(hasKey ? "UNLOCK" : "LOCKED");
         drawPanel(batch, panelX0, panelY, panelWidth, panelHeight,
-                "KEY", hasKey ? "UNLOCK" : "LOCKED",
+                keyTitle, keyValue,
                 hasKey ? primary : accent, hasKey ? primary : accent);
 
+        shieldValue.setText(shieldActive ? "ONLINE" : "OFFLINE");
         drawPanel(batch, panelX1, panelY, panelWidth, panelHeight,
-                "SHIELD", shieldActive ? "ONLINE" : "OFFLINE",
+                shieldTitle, shieldValue,
                 shieldActive ? primary : accent, shieldActive ? primary : accent);
 
-        sb.setLength(0);
-        sb.append("SPD ");
-        sb.append(MathUtils.round(speedValue));
-        sb.append(" u/s");
+        speedText.clear().append("SPD ").append(MathUtils.round(speedValue)).append(" u/s");
         drawPanel(batch, panelX2, panelY, panelWidth, panelHeight,
-                "SPEED", sb.toString(), primary, primary);
+                speedTitle, speedText, primary, primary);
+    }
+
+    /** Render what animates on top of renderStatic(), i.e. the low-health pulse. */
+    public void renderAnimated(SpriteBatch batch) {
+        if (!isLow(health01)) return;
+        float pulse = 0.55f + 0.45f * MathUtils.sin(time * pulseFreq * MathUtils.PI2);
+        drawSegments(batch, barX, barY, true, warn, 0.9f * pulse);
+        batch.setColor(Color.WHITE);
+    }
+
+    /** Returns the lowest y drawn on, in a HUD viewport viewportHeight high. */
+    public float getBottom(float viewportHeight) {
+        float barY = viewportHeight - padding - barHeight - 10f;
+        // border of the panels
+        return barY - panelHeight - 12f - 1f;
+    }
+
+    private int filledSegments(float health) {
+        return (int) (health * barSegments);
+    }
+
+    private static boolean isLow(float health) {
+        return health < LOW_HEALTH;
     }
 
     // -------- Drawing primitives --------
     private void drawHealthBar(SpriteBatch batch, float x, float y) {
         float h = barHeight;
-        float segW = (barWidth - barGap * (barSegments - 1)) / barSegments;
-        float filledSegments = health01 * barSegments;
-
-        // Low-health pulse
-        float pulse = health01 < 0.32f ? (0.55f + 0.45f * MathUtils.sin(time * pulseFreq * MathUtils.PI2)) : 1f;
-        Color segColor = (health01 < 0.32f)
-                ? new Color(warn.r, warn.g, warn.b, 0.9f * pulse)
-                : new Color(primary.r, primary.g, primary.b, 0.9f);
+        Color segColor = isLow(health01) ? warn : primary;
 
         // Background block
         batch.setColor(primary.r, primary.g, primary.b, bgAlpha);
         batch.draw(pixel, x - 6f, y - 6f, barWidth + 12f, h + 12f);
 
-        // Segments + inner glow
-        for (int i = 0; i < barSegments; i++) {
-            float sx = x + i * (segW + barGap);
-            boolean filled = i + 1 <= filledSegments;
-            float alpha = filled ? segColor.a : 0.2f;
-
-            batch.setColor(segColor.r, segColor.g, segColor.b, alpha);
-            batch.draw(pixel, sx, y, segW, h);
-
-            // Inner glow strip
-            batch.setColor(segColor.r, segColor.g, segColor.b, alpha * glowAlpha * 2.2f);
-            batch.draw(pixel, sx, y + h * 0.58f, segW, h * 0.18f);
-        }
+        // Segments, the filled ones pulse in renderAnimated() at low health
+        drawSegments(batch, x, y, false, segColor, 0.2f);
+        if (!isLow(health01)) drawSegments(batch, x, y, true, segColor, 0.9f);
 
         // Outline frame
         batch.setColor(primary.r, primary.g, primary.b, outlineAlpha);
@@ -152,8 +194,29 @@ private void drawHealthBar(SpriteBatch batch, float x, float y) {
         batch.draw(pixel, x + barWidth, y - 2f, 2f, h + 4f);       // right
     }
 
+    /** Draws either the filled or the empty segments of the health bar, with inner glow. */
+    private void drawSegments(SpriteBatch batch, float x, float y, boolean filled,
+                              Color color, float alpha) {
+        float h = barHeight;
+        float segW = (barWidth - barGap * (barSegments - 1)) / barSegments;
+        int filledSegments = filledSegments(health01);
+        int from = filled ? 0 : filledSegments;
+        int to = filled ? filledSegments : barSegments;
+
+        for (int i = from; i < to; i++) {
+            float sx = x + i * (segW + barGap);
+
+            batch.setColor(color.r, color.g, color.b, alpha);
+            batch.draw(pixel, sx, y, segW, h);
+
+            // Inner glow strip
+            batch.setColor(color.r, color.g, color.b, alpha * glowAlpha * 2.2f);
+            batch.draw(pixel, sx, y + h * 0.58f, segW, h * 0.18f);
+        }
+    }
+
     private void drawPanel(SpriteBatch batch, float x, float y, float w, float h,
-                           String title, String value, Color edgeColor, Color textColor) {
+                           TextLabel title, TextLabel value, Color edgeColor, Color textColor) {
         float pad = 7f;
 
         // Background
@@ -172,12 +235,8 @@ private void drawPanel(SpriteBatch batch, float x, float y, float w, float h,
         batch.draw(pixel, x + w, y - 1f, 1f, h + 2f);
 
         // Text
-        font.setColor(textColor);
-        layout.setText(font, title);
-        font.draw(batch, title, x + pad, y + h - pad);
-
-        layout.setText(font, value);
-        font.draw(batch, value, x + pad, y + pad + layout.height);
+        title.draw(batch, textColor, x + pad, y + h - pad);
+        value.draw(batch, textColor, x + pad, y + pad + value.getHeight());
     }
 
     public void dispose() {
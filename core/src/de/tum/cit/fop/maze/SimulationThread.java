@@ -0,0 +1,101 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Steps a simulation at a fixed tick rate on its own thread, independent of the render frame rate.
+ *
+ * <p>After the steps due at a wake-up the simulation publishes its state once, so a slow render
+ * thread never holds the simulation back. If the simulation falls too far behind (e.g. after a
+ * debugger break) the backlog is dropped instead of being caught up in one burst.
+ */
+public class SimulationThread {
+    /** Callbacks run on the simulation thread. */
+    public interface Simulation {
+        /** Called once on the simulation thread before the first step. */
+        void onStart();
+
+        /** Advances the simulation by delta seconds. */
+        void step(float delta);
+
+        /** Hands the current state to the render thread. */
+        void publish();
+    }
+
+    // most steps run back to back before the backlog is dropped
+    private static final int MAX_CATCH_UP_STEPS = 5;
+
+    private final Simulation simulation;
+    private final float tick;
+    private final long tickNanos;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    public SimulationThread(Simulation simulation, float tick) {
+        this.simulation = simulation;
+        this.tick = tick;
+        tickNanos = (long) (tick * 1e9);
+    }
+
+    /** Starts stepping, has no effect if already running. */
+    public void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops stepping and waits for the current step to finish, so that the simulation state may be
+     * touched by the caller afterwards. May be called from within the simulation.
+     */
+    public void stop() {
+        running = false;
+        if (thread == null || thread == Thread.currentThread()) return;
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        thread = null;
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        try {
+            simulation.onStart();
+            long next = System.nanoTime();
+            while (running) {
+                long now = System.nanoTime();
+                if (now < next) {
+                    LockSupport.parkNanos(next - now);
+                    continue;
+                }
+                for (int steps = 0; now >= next && steps < MAX_CATCH_UP_STEPS && running; ++steps) {
+                    simulation.step(tick);
+                    next += tickNanos;
+                }
+                if (now >= next) next = now + tickNanos;
+                if (running) simulation.publish();
+            }
+        } catch (Throwable e) {
+            running = false;
+            // rethrow on the render thread, where libGDX reports it
+            Gdx.app.postRunnable(
+                    () -> {
+                        throw new GdxRuntimeException("Simulation thread failed", e);
+                    });
+        }
+    }
+}
@@ -20,6 +20,8 @@
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import de.tum.cit.fop.maze.elements.ParticleEngine;
+
 /**
  * A small "Space Cruises"-like mini game that gates the real victory screen.
  *
@@ -92,6 +94,17 @@ public class SpaceCruisesMiniGameScreen implements Screen, Disposable {
     private static final String ENEMY_SHIP_PATH = "enemyship.png";
     private static final String ROCKS_PATH = "rocks.png";
     private static final String BOSS_PATH = "boss.png";
+    // key of the generated glow, see ProceduralTextures
+    private static final String GLOW = "minigame-glow-64";
+
+    // HUD palette
+    private static final Color TEXT_TITLE = new Color(0.2f, 0.95f, 1f, 0.95f);
+    private static final Color TEXT_HINT = new Color(0.85f, 0.95f, 1f, 0.75f);
+    private static final Color TEXT_STATUS = new Color(0.85f, 0.95f, 1f, 0.9f);
+    private static final Color TEXT_BOSS = new Color(1f, 0.4f, 0.3f, 0.95f);
+    private static final Color TEXT_ALERT = new Color(1f, 0.3f, 0.3f, 0.95f);
+    private static final Color TEXT_FAILED = new Color(1f, 0.25f, 0.35f, 0.95f);
+    private static final Color TEXT_MESSAGE = new Color(0.9f, 0.95f, 1f, 0.75f);
 
     private Texture playerShipTex;
     private Texture enemyShipTex;
@@ -113,6 +126,11 @@ public class SpaceCruisesMiniGameScreen implements Screen, Disposable {
 
     private final SpriteBatch batch;
     private final BitmapFont font;
+    // HUD text, laid out again only when it changes
+    private final TextLabel titleLabel;
+    private final TextLabel controlsLabel;
+    private final TextLabel statusLabel;
+    private final TextLabel overheatLabel;
 
     private ShapeRenderer shapes;
     private Texture pixel;
@@ -252,13 +270,8 @@ private enum BossState { ENTERING, CHARGING, BURST_FIRING, COOLDOWN, DRIFTING, E
 
     // Sparkle/hit flash particles
     private static final int MAX_SPARKS = 64;
-    private final float[] spX = new float[MAX_SPARKS];
-    private final float[] spY = new float[MAX_SPARKS];
-    private final float[] spVX = new float[MAX_SPARKS];
-    private final float[] spVY = new float[MAX_SPARKS];
-    private final float[] spLife = new float[MAX_SPARKS];
-    private final float[] spMaxLife = new float[MAX_SPARKS];
-    private int spCount = 0;
+    private final ParticleEngine sparkParticles = new ParticleEngine(MAX_SPARKS);
+    private ParticleEngine.Emitter sparks;
 
     // Screen shake
     private float shakeTime = 0f;
@@ -304,7 +317,7 @@ private enum State { RUNNING, PAUSED, WIN, FAIL }
     private float rockDrawH;
 
 
-    // Soft glow texture (generated once) to avoid visible rectangular boxes
+    // Soft glow texture (generated once per game) to avoid visible rectangular boxes
     private Texture glowTex;
     private TextureRegion glowRegion;
 
@@ -332,6 +345,10 @@ public SpaceCruisesMiniGameScreen(MazeRunnerGame game, int score, long elapsedTi
 
         this.batch = game.getSpriteBatch();
         this.font = game.getSkin().getFont("font");
+        titleLabel = new TextLabel(font, "SPACE CRUISES");
+        controlsLabel = new TextLabel(font, "A/D or ←/→: move   SPACE/LMB: fire");
+        statusLabel = new TextLabel(font);
+        overheatLabel = new TextLabel(font, "OVERHEATED");
 
         camera = new OrthographicCamera();
         viewport = new ScreenViewport(camera);
@@ -341,7 +358,15 @@ public SpaceCruisesMiniGameScreen(MazeRunnerGame game, int score, long elapsedTi
         camera.update();
 
         createPixel();
-        createGlow();
+        glowTex = game.getProceduralTextures().get(GLOW, SpaceCruisesMiniGameScreen::createGlow);
+        glowRegion = new TextureRegion(glowTex);
+        // Orange/yellow sparks, shrinking to half their size while fading
+        sparks = sparkParticles.createEmitter(glowRegion);
+        sparks.additive = true;
+        sparks.startColor.set(1f, 1f, 0.3f, 1f);
+        sparks.endColor.set(1f, 0.7f, 0.3f, 1f);
+        sparks.alpha = 0.9f;
+        sparks.endScale = 0.5f;
         shapes = new ShapeRenderer();
 
         shipX = WORLD_W * 0.5f;
@@ -407,7 +432,12 @@ private void createPixel() {
         pm.dispose();
     }
 
-    private void createGlow() {
+    /** Starts generating the textures of this screen in the background. */
+    static void prefetchTextures(ProceduralTextures textures) {
+        textures.prefetch(GLOW, SpaceCruisesMiniGameScreen::createGlow);
+    }
+
+    private static Pixmap createGlow() {
         // Creates a small radial alpha texture used for glow underlays without a visible rectangle.
         int size = 64;
         Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
@@ -429,9 +459,7 @@ private void createGlow() {
             }
         }
 
-        glowTex = new Texture(pm);
-        glowRegion = new TextureRegion(glowTex);
-        pm.dispose();
+        return pm;
     }
 
     private void initStars() {
@@ -1517,38 +1545,22 @@ private void spawnComet() {
     }
 
     private void spawnSparks(float x, float y, int count, float life) {
-        for (int i = 0; i < count && spCount < MAX_SPARKS; i++) {
+        for (int i = 0; i < count && sparkParticles.getCount() < MAX_SPARKS; i++) {
             float angle = MathUtils.random(0f, MathUtils.PI2);
             float speed = MathUtils.random(60f, 180f);
-            spX[spCount] = x;
-            spY[spCount] = y;
-            spVX[spCount] = MathUtils.cos(angle) * speed;
-            spVY[spCount] = MathUtils.sin(angle) * speed;
-            spLife[spCount] = life + MathUtils.random(-0.05f, 0.1f);
-            spMaxLife[spCount] = spLife[spCount];
-            spCount++;
+            sparkParticles.spawn(
+                    sparks,
+                    x,
+                    y,
+                    MathUtils.cos(angle) * speed,
+                    MathUtils.sin(angle) * speed,
+                    life + MathUtils.random(-0.05f, 0.1f),
+                    8f);
         }
     }
 
     private void updateSparks(float dt) {
-        for (int i = 0; i < spCount; ) {
-            spX[i] += spVX[i] * dt;
-            spY[i] += spVY[i] * dt;
-            spLife[i] -= dt;
-            if (spLife[i] <= 0f) {
-                // swap-remove
-                int last = spCount - 1;
-                spX[i] = spX[last];
-                spY[i] = spY[last];
-                spVX[i] = spVX[last];
-                spVY[i] = spVY[last];
-                spLife[i] = spLife[last];
-                spMaxLife[i] = spMaxLife[last];
-                spCount--;
-                continue;
-            }
-            i++;
-        }
+        sparkParticles.update(dt);
     }
 
     private void triggerShake(float duration, float intensity) {
@@ -1759,13 +1771,7 @@ private void drawBackground() {
         }
 
         // ===== LAYER 7: Spark particles =====
-        for (int i = 0; i < spCount; i++) {
-            float alpha = spLife[i] / spMaxLife[i];
-            // Orange/yellow sparks
-            batch.setColor(1f, 0.7f +  0.3f * alpha, 0.3f, alpha * 0.9f);
-            float s = 4f + 4f * alpha;
-            batch.draw(glowRegion, spX[i] - s * 0.5f, spY[i] - s * 0.5f, s, s);
-        }
+        sparkParticles.render(batch, null);
 
         // ===== LAYER 8: Subtle scan lines / grid (sci-fi atmosphere) =====
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -2112,36 +2118,35 @@ private void drawHUD() {
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
         // Title
-        font.setColor(new Color(0.2f, 0.95f, 1f, 0.95f));
         font.getData().setScale(1.2f);
-        font.draw(batch, "SPACE CRUISES", 24f, WORLD_H - 24f);
+        titleLabel.draw(batch, TEXT_TITLE, 24f, WORLD_H - 24f);
 
         // Controls
-        font.setColor(new Color(0.85f, 0.95f, 1f, 0.75f));
         font.getData().setScale(0.8f);
-        font.draw(batch, "A/D or ←/→: move   SPACE/LMB: fire", 24f, WORLD_H - 54f);
+        controlsLabel.draw(batch, TEXT_HINT, 24f, WORLD_H - 54f);
 
         // Status line depends on boss state
+        Color statusColor = TEXT_STATUS;
         if (bossActive) {
             float bossHpPct = Math.max(0f, bossHp / BOSS_HP) * 100f;
-            font.setColor(new Color(1f, 0.4f, 0.3f, 0.95f));
-            font.draw(batch,
-                    "!! BOSS FIGHT !!   Boss HP: " + String.format("%.0f%%", bossHpPct) + "   Your HP: " + hp + "/" + MAX_HP,
-                    24f,
-                    WORLD_H - 76f);
+            statusColor = TEXT_BOSS;
+            statusLabel.clear()
+                    .append("!! BOSS FIGHT !!   Boss HP: ").append(bossHpPct, 0).append('%')
+                    .append("   Your HP: ").append(hp).append('/').append(MAX_HP);
         } else if (bossSpawned) {
-            font.setColor(new Color(0.85f, 0.95f, 1f, 0.9f));
-            font.draw(batch, "Boss defeated!   HP: " + hp + "/" + MAX_HP, 24f, WORLD_H - 76f);
+            statusLabel.clear()
+                    .append("Boss defeated!   HP: ").append(hp).append('/').append(MAX_HP);
         } else {
             float remain = Math.max(0f, BOSS_SPAWN_TIME - surviveTimer);
-            font.setColor(new Color(0.85f, 0.95f, 1f, 0.9f));
-            font.draw(batch, "Boss in: " + String.format("%.1fs", remain) + "   HP: " + hp + "/" + MAX_HP, 24f, WORLD_H - 76f);
+            statusLabel.clear()
+                    .append("Boss in: ").append(remain, 1).append('s')
+                    .append("   HP: ").append(hp).append('/').append(MAX_HP);
         }
+        statusLabel.draw(batch, statusColor, 24f, WORLD_H - 76f);
 
         // Overheat indicator
         if (shipOverheated) {
-            font.setColor(new Color(1f, 0.3f, 0.3f, 0.95f));
-            font.draw(batch, "OVERHEATED", 24f, WORLD_H - 98f);
+            overheatLabel.draw(batch, TEXT_ALERT, 24f, WORLD_H - 98f);
         }
 
         font.getData().setScale(1f);
@@ -2177,13 +2182,11 @@ private void drawEndOverlay() {
         String msg = state == State.WIN ? "MINI GAME SUCCESS" : "MINI GAME FAILED";
         String msg2 = state == State.WIN ? "Press ENTER to claim victory" : "Press ENTER to accept defeat";
 
-        font.setColor(state == State.WIN
-                ? new Color(0.2f, 0.95f, 1f, 0.95f)
-                : new Color(1f, 0.25f, 0.35f, 0.95f));
+        font.setColor(state == State.WIN ? TEXT_TITLE : TEXT_FAILED);
         font.getData().setScale(1.3f);
         font.draw(batch, msg, (WORLD_W - 320f) * 0.5f, WORLD_H * 0.5f + 32f);
 
-        font.setColor(new Color(0.9f, 0.95f, 1f, 0.75f));
+        font.setColor(TEXT_MESSAGE);
         font.getData().setScale(0.9f);
         font.draw(batch, msg2, (WORLD_W - 420f) * 0.5f, WORLD_H * 0.5f - 8f);
 
@@ -2244,11 +2247,9 @@ public void dispose() {
         rocksRegion = null;
         bossRegion = null;
 
-        if (glowTex != null) {
-            glowTex.dispose();
-            glowTex = null;
-            glowRegion = null;
-        }
+        // the glow belongs to the game's ProceduralTextures
+        glowTex = null;
+        glowRegion = null;
         if (laserShotSound != null) {
             laserShotSound.dispose();
             laserShotSound = null;
@@ -3,7 +3,6 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Align;
@@ -17,7 +16,9 @@ public class StoryScreen {
     private final float DISPLAY_TIME = 3.0f;
     private final float FADE_OUT_TIME = 1.0f;
     private final Stage stage;
-    private final GlyphLayout glyphLayout;
+    // keeps the wrapped layout of the message while it fades
+    private final TextLabel label;
+    private final Color color = new Color(1, 1, 1, 0);
     private String message;
     private float alpha;
     private boolean showing;
@@ -30,12 +31,12 @@ public class StoryScreen {
     /** To tell background story and no key information */
     public StoryScreen() {
         font = new BitmapFont();
-        font.setColor(new Color(1, 1, 1, 0)); // Initial fully transparent
+        font.setColor(color); // Initial fully transparent
         // Font scale will be set dynamically in render() based on screen size
         showing = false;
         alpha = 0;
         stage = new Stage(new ScreenViewport());
-        glyphLayout = new GlyphLayout();
+        label = new TextLabel(font);
     }
 
     public static StoryScreen getInstance() {
@@ -50,6 +51,7 @@ public void showMessage(String text) {
             return; // Avoid repetition of messages
         }
         message = text;
+        label.setText(text);
         timer = 0;
         showing = true;
         alpha = 0; // Start fade-in effect
@@ -90,7 +92,7 @@ public void render(SpriteBatch batch) {
         // Calculate dynamic font scale based on screen width
         float scaleFactor = Math.max(0.8f, Math.min(3.0f, screenWidth / BASE_SCREEN_WIDTH * BASE_FONT_SCALE));
         font.getData().setScale(scaleFactor);
-        font.setColor(1, 1, 1, alpha);
+        color.a = alpha;
 
         // Position text on the right side of the screen
         float marginRight = screenWidth * 0.05f; // 5% margin from right edge
@@ -100,14 +102,14 @@ public void render(SpriteBatch batch) {
         float textWidthPercent = screenWidth < 800 ? 0.6f : (screenWidth < 1200 ? 0.45f : 0.35f);
         float textWidth = screenWidth * textWidthPercent;
 
-        // Use GlyphLayout for proper text measurement and wrapping
-        glyphLayout.setText(font, message, font.getColor(), textWidth, Align.right, true);
+        // Wrapped text, only laid out again when the message or the screen size changes
+        label.setWrap(textWidth, Align.right);
 
         // Position text on right side of screen, upper portion
         float offsetX = screenWidth - textWidth - marginRight;
         float offsetY = screenHeight - marginTop;
 
-        font.draw(batch, glyphLayout, offsetX, offsetY);
+        label.draw(batch, color, offsetX, offsetY);
         batch.end();
     }
 
@@ -0,0 +1,144 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * A piece of text drawn every frame without allocating, e.g. a HUD value.
+ *
+ * <p>The text is built in place with setText() and append(), which formats numbers without
+ * creating Strings. The label keeps the glyph layout and vertices of what it drew last, in its own
+ * BitmapFontCache, and lays the text out again only when its content, the scale of the font or the
+ * wrapping changed. Color and position changes only rewrite vertex colors and offsets.
+ */
+public class TextLabel {
+    private final BitmapFont font;
+    private final BitmapFontCache cache;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final StringBuilder text = new StringBuilder(32);
+    // what the layout and the cache currently hold
+    private final StringBuilder laidOut = new StringBuilder(32);
+    private float laidOutScaleX;
+    private float laidOutScaleY;
+    private boolean valid = false;
+    private float colorBits;
+
+    private float targetWidth = 0f;
+    private int align = Align.left;
+    private boolean wrap = false;
+
+    public TextLabel(BitmapFont font) {
+        this.font = font;
+        cache = font.newFontCache();
+    }
+
+    /** Creates a label that always shows text. */
+    public TextLabel(BitmapFont font, CharSequence text) {
+        this(font);
+        setText(text);
+    }
+
+    /** Replaces the text. */
+    public TextLabel setText(CharSequence value) {
+        text.setLength(0);
+        text.append(value);
+        return this;
+    }
+
+    /** Empties the text, to build it anew with append(). */
+    public TextLabel clear() {
+        text.setLength(0);
+        return this;
+    }
+
+    public TextLabel append(CharSequence value) {
+        text.append(value);
+        return this;
+    }
+
+    public TextLabel append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    public TextLabel append(int value) {
+        text.append(value);
+        return this;
+    }
+
+    /** Appends value rounded to decimals digits after the point, like String.format("%.nf"). */
+    public TextLabel append(float value, int decimals) {
+        if (value < 0f) {
+            text.append('-');
+            value = -value;
+        }
+        long scale = 1;
+        for (int i = 0; i < decimals; ++i) scale *= 10;
+        long fixed = Math.round(value * (double) scale);
+        text.append(fixed / scale);
+        if (decimals > 0) {
+            text.append('.');
+            long fraction = fixed % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                text.append((char) ('0' + fraction / digit % 10));
+            }
+        }
+        return this;
+    }
+
+    /** Wraps the text at width, aligning lines with an Align constant; a width of 0 never wraps. */
+    public TextLabel setWrap(float width, int align) {
+        if (targetWidth != width || this.align != align || wrap != width > 0f) valid = false;
+        targetWidth = width;
+        this.align = align;
+        wrap = width > 0f;
+        return this;
+    }
+
+    /** Returns the width of the laid out text, at the current scale of the font. */
+    public float getWidth() {
+        validate();
+        return layout.width;
+    }
+
+    /** Returns the height of the laid out text, at the current scale of the font. */
+    public float getHeight() {
+        validate();
+        return layout.height;
+    }
+
+    /** Draws the text with its top left at (x, y), like BitmapFont.draw(). */
+    public void draw(Batch batch, Color color, float x, float y) {
+        validate();
+        float bits = color.toFloatBits();
+        if (bits != colorBits) {
+            colorBits = bits;
+            cache.setColors(bits);
+        }
+        cache.setPosition(x, y);
+        cache.draw(batch);
+    }
+
+    private void validate() {
+        BitmapFont.BitmapFontData data = font.getData();
+        if (valid
+                && data.scaleX == laidOutScaleX
+                && data.scaleY == laidOutScaleY
+                && text.compareTo(laidOut) == 0) {
+            return;
+        }
+        layout.setText(font, text, Color.WHITE, targetWidth, align, wrap);
+        cache.setText(layout, 0f, 0f);
+        laidOut.setLength(0);
+        laidOut.append(text);
+        laidOutScaleX = data.scaleX;
+        laidOutScaleY = data.scaleY;
+        // setText() reset the vertex colors
+        colorBits = Color.WHITE.toFloatBits();
+        valid = true;
+    }
+}
@@ -0,0 +1,54 @@
+package de.tum.cit.fop.maze;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands the latest of a stream of values from one producer thread to one consumer thread without
+ * locking or copying.
+ *
+ * <p>The producer fills the write buffer and publishes it, the consumer acquires the most recently
+ * published buffer. A third buffer sits in between, so neither side ever waits for the other and
+ * the consumer simply skips values it was too slow to see.
+ */
+public class TripleBuffer<T> {
+    // set on the middle index when it holds a value the consumer has not acquired yet
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    // only touched by the producer
+    private int write = 0;
+    // only touched by the consumer
+    private int read = 2;
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; ++i) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /** Returns the buffer the producer may fill, until the next publish(). */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[write];
+    }
+
+    /** Makes the write buffer the latest value, the producer gets another buffer to fill. */
+    public void publish() {
+        write = middle.getAndSet(write | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published value, which stays valid until the next call. Returns the same
+     * value again if nothing was published in between.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            read = middle.getAndSet(read) & INDEX_MASK;
+        }
+        return (T) buffers[read];
+    }
+}
@@ -0,0 +1,162 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Draws polylines, like lightning, electric arcs and laser bolts, as joined beams of a solid color.
+ *
+ * <p>setPath() computes the join of every point once: the direction halfway between its two
+ * segments, stretched so that the beam keeps its width around corners (a miter join, limited to
+ * MAX_MITER for spiky paths). draw() then only scales these offsets by the width at each point, so
+ * any number of glow layers can be drawn from one path without trigonometry. Each layer is a
+ * single batch.draw() of one quad per segment, neighbouring quads sharing their corners, so there
+ * are neither gaps nor overlapping ends at the joins.
+ *
+ * <p>The width and alpha of a layer are interpolated from the first to the last point, the alpha
+ * can additionally be varied per point with setPointAlpha(). The batch color is not used.
+ */
+public class BeamRenderer {
+    /** Points beyond this number are ignored. */
+    public static final int MAX_POINTS = 32;
+    private static final float MAX_MITER = 2.5f;
+    private static final float EPSILON = 0.0001f;
+    // x, y, color, u, v for the 4 corners of each segment, like SpriteBatch
+    private static final int SEGMENT_SIZE = 20;
+
+    private final TextureRegion pixel;
+    private final float u;
+    private final float v;
+
+    private final float[] x = new float[MAX_POINTS];
+    private final float[] y = new float[MAX_POINTS];
+    // join offset of each point, for a width of 2
+    private final float[] joinX = new float[MAX_POINTS];
+    private final float[] joinY = new float[MAX_POINTS];
+    private final float[] pointAlpha = new float[MAX_POINTS];
+    private final float[] colors = new float[MAX_POINTS];
+    private final float[] vertices = new float[(MAX_POINTS - 1) * SEGMENT_SIZE];
+    private int count = 0;
+
+    /** Creates a renderer drawing with a white pixel of a texture, e.g. of the atlas. */
+    public BeamRenderer(TextureRegion pixel) {
+        this.pixel = pixel;
+        // sample the middle of the pixel so that filtering never reaches its neighbours
+        u = (pixel.getU() + pixel.getU2()) * 0.5f;
+        v = (pixel.getV() + pixel.getV2()) * 0.5f;
+    }
+
+    /** Sets the polyline drawn by the next draw() calls to the first count points of xs and ys. */
+    public void setPath(float[] xs, float[] ys, int count) {
+        this.count = Math.min(count, MAX_POINTS);
+        System.arraycopy(xs, 0, x, 0, this.count);
+        System.arraycopy(ys, 0, y, 0, this.count);
+        computeJoins();
+    }
+
+    /** Sets a straight line from (x1, y1) to (x2, y2) as the path. */
+    public void setLine(float x1, float y1, float x2, float y2) {
+        count = 2;
+        x[0] = x1;
+        y[0] = y1;
+        x[1] = x2;
+        y[1] = y2;
+        computeJoins();
+    }
+
+    /** Multiplies the alpha at point i of the current path, until the next path is set. */
+    public void setPointAlpha(int i, float alpha) {
+        if (i < count) pointAlpha[i] = alpha;
+    }
+
+    private void computeJoins() {
+        float prevDirX = 1f;
+        float prevDirY = 0f;
+        for (int i = 0; i < count; ++i) {
+            pointAlpha[i] = 1f;
+            // direction of the segment starting at i, that of the previous one for the last point
+            float dirX = prevDirX;
+            float dirY = prevDirY;
+            if (i + 1 < count) {
+                float dx = x[i + 1] - x[i];
+                float dy = y[i + 1] - y[i];
+                float length = (float) Math.sqrt(dx * dx + dy * dy);
+                if (length > EPSILON) {
+                    dirX = dx / length;
+                    dirY = dy / length;
+                }
+            }
+            if (i == 0) {
+                prevDirX = dirX;
+                prevDirY = dirY;
+            }
+
+            // halfway direction; its normal, stretched by 1 / cos(half the turn), is the miter
+            float tangentX = prevDirX + dirX;
+            float tangentY = prevDirY + dirY;
+            float tangentLength = (float) Math.sqrt(tangentX * tangentX + tangentY * tangentY);
+            float scale = 1f;
+            if (tangentLength > EPSILON) {
+                tangentX /= tangentLength;
+                tangentY /= tangentLength;
+                float cosHalf = tangentX * prevDirX + tangentY * prevDirY;
+                scale = cosHalf > 1f / MAX_MITER ? 1f / cosHalf : MAX_MITER;
+            } else {
+                // the path turns back on itself
+                tangentX = prevDirX;
+                tangentY = prevDirY;
+            }
+            joinX[i] = -tangentY * scale;
+            joinY[i] = tangentX * scale;
+
+            prevDirX = dirX;
+            prevDirY = dirY;
+        }
+    }
+
+    /** Draws the current path with a constant width and color. */
+    public void draw(SpriteBatch batch, float width, float r, float g, float b, float a) {
+        draw(batch, width, width, r, g, b, a, a);
+    }
+
+    /** Draws the current path, its width and alpha changing linearly from start to end. */
+    public void draw(
+            SpriteBatch batch,
+            float startWidth,
+            float endWidth,
+            float r,
+            float g,
+            float b,
+            float startAlpha,
+            float endAlpha) {
+        if (count < 2) return;
+        float step = 1f / (count - 1);
+        for (int i = 0; i < count; ++i) {
+            float t = i * step;
+            float alpha = (startAlpha + (endAlpha - startAlpha) * t) * pointAlpha[i];
+            colors[i] = Color.toFloatBits(r, g, b, Math.min(1f, Math.max(0f, alpha)));
+        }
+
+        int offset = 0;
+        float halfWidth = startWidth * 0.5f;
+        for (int i = 0; i < count - 1; ++i) {
+            float nextHalfWidth = (startWidth + (endWidth - startWidth) * (i + 1) * step) * 0.5f;
+            offset = putCorner(offset, i, -halfWidth);
+            offset = putCorner(offset, i, halfWidth);
+            offset = putCorner(offset, i + 1, nextHalfWidth);
+            offset = putCorner(offset, i + 1, -nextHalfWidth);
+            halfWidth = nextHalfWidth;
+        }
+        batch.draw(pixel.getTexture(), vertices, 0, offset);
+    }
+
+    private int putCorner(int offset, int i, float side) {
+        vertices[offset] = x[i] + joinX[i] * side;
+        vertices[offset + 1] = y[i] + joinY[i] * side;
+        vertices[offset + 2] = colors[i];
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+        return offset + 5;
+    }
+}
@@ -27,6 +27,11 @@ public Block(Maze maze, TextureRegion texture, Vector2 position, boolean obstacl
         this.obstacle = obstacle;
     }
 
+    /** Returns the static texture of the block, see StaticTileLayer. */
+    public TextureRegion getTexture() {
+        return texture;
+    }
+
     /** Returns if it is an obstacle, i.e. player cannot walk on. */
     public boolean isObstacle() {
         return obstacle;
@@ -49,6 +54,25 @@ public boolean overlaps(Rectangle other) {
         return obstacle && super.overlaps(other);
     }
 
+    /**
+     * Returns if the block has per-frame logic. Only ticking blocks are registered in the active
+     * list of the maze, all others never receive onFrame().
+     */
+    public boolean isTicking() {
+        return false;
+    }
+
+    /**
+     * Returns if the block has visuals that change every frame. Animated blocks get
+     * renderAnimation() called on top of the static tile layer.
+     */
+    public boolean isAnimated() {
+        return false;
+    }
+
+    /** Draws the animated part of the block, the static texture is drawn by render(). */
+    public void renderAnimation() {}
+
     /** Triggers event when other object arrives this block. */
     public void onArrival(MazeObject other) {}
 
@@ -2,8 +2,6 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 
@@ -62,10 +60,11 @@ public class ElectricTrapEffect {
 
     // ===================
 
-    private static Texture pixelTexture;
-    private static int refCount = 0;
+    // shared by all traps of the maze
+    private final BeamRenderer beams;
 
     private final float tileSize;
+    private final GameRandom random;
 
     // world position of tile (bottom-left)
     private float baseX;
@@ -90,10 +89,14 @@ public class ElectricTrapEffect {
     private float flickerSeed;
     private float dimPulseTimer;
 
-    private final Color tmpColor = new Color();
+    // world positions of the polyline being drawn
+    private final float[] worldX = new float[POINTS_PER_ARC];
+    private final float[] worldY = new float[POINTS_PER_ARC];
 
-    public ElectricTrapEffect(float tileSize) {
+    public ElectricTrapEffect(float tileSize, GameRandom random, BeamRenderer beams) {
         this.tileSize = tileSize;
+        this.random = random;
+        this.beams = beams;
 
         px = new float[ARC_MAX][POINTS_PER_ARC];
         py = new float[ARC_MAX][POINTS_PER_ARC];
@@ -104,7 +107,6 @@ public ElectricTrapEffect(float tileSize) {
 
         arcThickness = new float[ARC_MAX];
 
-        initSharedPixel();
         resetTimers();
 
         // start with a shape
@@ -129,17 +131,16 @@ public void update(float dt) {
         dimPulseTimer -= dt;
         if (dimPulseTimer <= 0f) {
             // schedule next pulse check
-            dimPulseTimer = MathUtils.random(0.12f, 0.35f);
-            if (MathUtils.random() < DIM_PULSE_CHANCE) {
+            dimPulseTimer = random.random(0.12f, 0.35f);
+            if (random.random() < DIM_PULSE_CHANCE) {
                 // force a temporary dim by adjusting seed
-                flickerSeed = MathUtils.random(10f, 1000f);
+                flickerSeed = random.random(10f, 1000f);
             }
         }
     }
 
-    public void render(SpriteBatch batch) {
-        if (pixelTexture == null) return;
-
+    /** Draws the arcs, detail in (0, 1] is the fraction of them to draw. */
+    public void render(SpriteBatch batch, float detail) {
         // Additive blending for glow
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
 
@@ -151,16 +152,23 @@ public void render(SpriteBatch batch) {
         }
 
         // Colors: blue/cyan outer + white core, pixel-ish
-        // We'll draw each segment twice: outer (cyan) + inner (white)
-        for (int a = 0; a < arcCount; a++) {
+        // We'll draw each arc twice: outer (cyan) + inner (white)
+        int arcs = Math.max(1, Math.round(arcCount * detail));
+        for (int a = 0; a < arcs; a++) {
             float t = arcThickness[a];
+            float inner = Math.max(1f, t - 0.6f);
 
-            drawPolyline(batch, a, globalF, t, 0.35f, 0.75f, 1f);
-            drawPolyline(batch, a, globalF, Math.max(1f, t - 0.6f), 1f, 1f, 1f);
+            setPath(px[a], py[a], POINTS_PER_ARC);
+            for (int i = 0; i < POINTS_PER_ARC; i++) {
+                beams.setPointAlpha(i, segmentAlpha(i));
+            }
+            beams.draw(batch, t, 0.35f, 0.75f, 1f, globalF);
+            beams.draw(batch, inner, 1f, 1f, 1f, globalF);
 
             if (hasBranch[a]) {
-                drawBranch(batch, a, globalF, t, 0.35f, 0.75f, 1f);
-                drawBranch(batch, a, globalF, Math.max(1f, t - 0.6f), 1f, 1f, 1f);
+                setPath(bx[a], by[a], bx[a].length);
+                beams.draw(batch, t, 0.35f, 0.75f, 1f, globalF * 0.65f);
+                beams.draw(batch, inner, 1f, 1f, 1f, globalF * 0.65f);
             }
         }
 
@@ -169,98 +177,52 @@ public void render(SpriteBatch batch) {
         batch.setColor(Color.WHITE);
     }
 
-    private void drawPolyline(SpriteBatch batch, int arcIndex, float globalF, float thickness, float r, float g, float b) {
-        for (int i = 0; i < POINTS_PER_ARC - 1; i++) {
-            float x1 = baseX + px[arcIndex][i];
-            float y1 = baseY + py[arcIndex][i];
-            float x2 = baseX + px[arcIndex][i + 1];
-            float y2 = baseY + py[arcIndex][i + 1];
-
-            drawSegment(batch, x1, y1, x2, y2, thickness, r, g, b, segmentAlpha(globalF, i));
+    /** Sets the beam path to the given tile-local points. */
+    private void setPath(float[] localX, float[] localY, int count) {
+        for (int i = 0; i < count; i++) {
+            worldX[i] = baseX + localX[i];
+            worldY[i] = baseY + localY[i];
         }
-    }
-
-    private void drawBranch(SpriteBatch batch, int arcIndex, float globalF, float thickness, float r, float g, float b) {
-        for (int i = 0; i < 2; i++) {
-            float x1 = baseX + bx[arcIndex][i];
-            float y1 = baseY + by[arcIndex][i];
-            float x2 = baseX + bx[arcIndex][i + 1];
-            float y2 = baseY + by[arcIndex][i + 1];
-            drawSegment(batch, x1, y1, x2, y2, thickness, r, g, b, globalF * 0.65f);
-        }
-    }
-
-    private void drawSegment(SpriteBatch batch,
-                             float x1, float y1,
-                             float x2, float y2,
-                             float thickness,
-                             float r, float g, float b,
-                             float alpha) {
-        float dx = x2 - x1;
-        float dy = y2 - y1;
-        float len = (float) Math.sqrt(dx * dx + dy * dy);
-        if (len < 0.01f) return;
-
-        float angle = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
-
-        // Pixel-snapping to reduce smooth look
-        x1 = MathUtils.floor(x1);
-        y1 = MathUtils.floor(y1);
-
-        tmpColor.set(r, g, b, alpha);
-        batch.setColor(tmpColor);
-
-        // Draw a stretched 1x1 pixel with rotation
-        batch.draw(
-                pixelTexture,
-                x1, y1,
-                0f, thickness / 2f,
-                len, thickness,
-                1f, 1f,
-                angle,
-                0, 0,
-                1, 1,
-                false, false
-        );
+        beams.setPath(worldX, worldY, count);
     }
 
     private float flicker() {
         // Composite flicker: fast sine + random noise-like component
         float s = 0.55f + 0.45f * MathUtils.sin((flickerTime + flickerSeed) * FLICKER_FREQ);
-        float n = MathUtils.random(0.65f, 1.05f);
+        float n = random.random(0.65f, 1.05f);
 
         float a = s * n;
         // occasional very dim
-        if (MathUtils.random() < 0.05f) a *= 0.2f;
+        if (random.random() < 0.05f) a *= 0.2f;
 
         return MathUtils.clamp(MathUtils.lerp(ALPHA_MIN, ALPHA_MAX, a), 0f, 1f);
     }
 
-    private float segmentAlpha(float globalF, int segmentIndex) {
+    private float segmentAlpha(int segmentIndex) {
         // Slight variation along arc, avoid uniform look
-        float local = 0.75f + 0.25f * MathUtils.sin((flickerTime * 12f) + segmentIndex * 2.2f + flickerSeed);
-        return globalF * local;
+        float phase = (flickerTime * 12f) + segmentIndex * 2.2f + flickerSeed;
+        return 0.75f + 0.25f * MathUtils.sin(phase);
     }
 
     private void regenerate() {
-        arcCount = MathUtils.random(ARC_MIN, ARC_MAX);
+        arcCount = random.random(ARC_MIN, ARC_MAX);
 
         float cx = tileSize / 2f;
         float cy = tileSize / 2f;
 
         for (int a = 0; a < arcCount; a++) {
-            arcThickness[a] = MathUtils.random(THICKNESS_MIN, THICKNESS_MAX);
+            arcThickness[a] = random.random(THICKNESS_MIN, THICKNESS_MAX);
 
             // pick a random "anchor" in the tile, keep inside with margins
-            float ax = cx + MathUtils.random(-WANDER, WANDER) + MathUtils.random(-JUMP, JUMP);
-            float ay = cy + MathUtils.random(-WANDER, WANDER) * Y_WANDER_SCALE + MathUtils.random(-JUMP, JUMP) * 0.4f;
+            float ax = cx + random.random(-WANDER, WANDER) + random.random(-JUMP, JUMP);
+            float ay = cy + random.random(-WANDER, WANDER) * Y_WANDER_SCALE + random.random(-JUMP, JUMP) * 0.4f;
 
             // pick a random direction mostly horizontal-ish to feel ground-crawling
-            float dir = MathUtils.random(0f, 360f);
-            float dirBias = (MathUtils.random() < 0.5f) ? 0f : 180f; // prefer left/right
+            float dir = random.random(0f, 360f);
+            float dirBias = (random.random() < 0.5f) ? 0f : 180f; // prefer left/right
             dir = MathUtils.lerpAngleDeg(dir, dirBias, 0.65f);
 
-            float totalLen = MathUtils.random(tileSize * 0.45f, tileSize * 0.8f);
+            float totalLen = random.random(tileSize * 0.45f, tileSize * 0.8f);
             float step = totalLen / (POINTS_PER_ARC - 1);
 
             float vx = MathUtils.cosDeg(dir);
@@ -271,8 +233,8 @@ private void regenerate() {
 
             for (int i = 0; i < POINTS_PER_ARC; i++) {
                 // jagged offset each point
-                float jx = MathUtils.random(-3f, 3f);
-                float jy = MathUtils.random(-2f, 2f) * Y_WANDER_SCALE;
+                float jx = random.random(-3f, 3f);
+                float jy = random.random(-2f, 2f) * Y_WANDER_SCALE;
 
                 float pxLocal = x + vx * step * i + jx;
                 float pyLocal = y + vy * step * i + jy;
@@ -286,14 +248,14 @@ private void regenerate() {
             }
 
             // Optional branch: start at a random mid point and shoot a short jagged sub-arc
-            hasBranch[a] = MathUtils.random() < BRANCH_CHANCE;
+            hasBranch[a] = random.random() < BRANCH_CHANCE;
             if (hasBranch[a]) {
-                int baseIdx = MathUtils.random(1, POINTS_PER_ARC - 3);
+                int baseIdx = random.random(1, POINTS_PER_ARC - 3);
                 float sx = px[a][baseIdx];
                 float sy = py[a][baseIdx];
 
-                float bdir = dir + MathUtils.randomSign() * MathUtils.random(35f, 75f);
-                float blen = MathUtils.random(tileSize * 0.15f, tileSize * 0.28f);
+                float bdir = dir + random.randomSign() * random.random(35f, 75f);
+                float blen = random.random(tileSize * 0.15f, tileSize * 0.28f);
 
                 float bvx = MathUtils.cosDeg(bdir);
                 float bvy = MathUtils.sinDeg(bdir) * 0.35f;
@@ -303,8 +265,8 @@ private void regenerate() {
 
                 for (int bi = 1; bi < 3; bi++) {
                     float t = bi / 2f;
-                    float jx = MathUtils.random(-2f, 2f);
-                    float jy = MathUtils.random(-2f, 2f) * Y_WANDER_SCALE;
+                    float jx = random.random(-2f, 2f);
+                    float jy = random.random(-2f, 2f) * Y_WANDER_SCALE;
 
                     float lx = sx + bvx * blen * t + jx;
                     float ly = sy + bvy * blen * t + jy;
@@ -317,34 +279,11 @@ private void regenerate() {
     }
 
     private void resetTimers() {
-        regenTimer = MathUtils.random(REGEN_MIN, REGEN_MAX);
-        flickerSeed = MathUtils.random(0f, 1000f);
-    }
-
-    private static synchronized void initSharedPixel() {
-        if (pixelTexture == null) {
-            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-            pixmap.setColor(Color.WHITE);
-            pixmap.fill();
-            pixelTexture = new Texture(pixmap);
-            pixelTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            pixmap.dispose();
-        }
-        refCount++;
+        regenTimer = random.random(REGEN_MIN, REGEN_MAX);
+        flickerSeed = random.random(0f, 1000f);
     }
 
-    /** Call when the owning Trap is disposed. */
-    public void dispose() {
-        disposeShared();
-    }
-
-    public static synchronized void disposeShared() {
-        refCount--;
-        if (refCount <= 0 && pixelTexture != null) {
-            pixelTexture.dispose();
-            pixelTexture = null;
-            refCount = 0;
-        }
-    }
+    /** Call when the owning Trap is disposed. The beam renderer belongs to the maze. */
+    public void dispose() {}
 }
 
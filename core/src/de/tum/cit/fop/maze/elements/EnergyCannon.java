@@ -37,7 +37,11 @@ public EnergyCannon(Maze maze) {
         this.pool = new Pool<EnergyProjectile>() {
             @Override
             protected EnergyProjectile newObject() {
-                return new EnergyProjectile();
+                return new EnergyProjectile(
+                        maze.getRandom(MazeRandom.Stream.WEAPONS),
+                        maze.getRandom(MazeRandom.Stream.EFFECTS),
+                        maze.getGame().getResourcePack().getWhitePixel(),
+                        maze.getBeams());
             }
         };
         this.shootSound = Gdx.audio.newSound(Gdx.files.internal("The_sound_of_EnergyCannon.wav"));
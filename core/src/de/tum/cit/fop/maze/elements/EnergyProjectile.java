@@ -2,12 +2,12 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
 
 /**
@@ -22,8 +22,10 @@
  */
 public class EnergyProjectile implements Pool.Poolable {
 
-    // Shared 1x1 pixel texture
-    private static Texture whitePixel;
+    // white pixel of the resource pack atlas
+    private final TextureRegion whitePixel;
+    // draws the tail, shared with the other line effects of the maze
+    private final BeamRenderer beams;
 
     // State
     private float x, y;
@@ -42,6 +44,9 @@ public class EnergyProjectile implements Pool.Poolable {
     private final float[] tailX = new float[TAIL_POINTS];
     private final float[] tailY = new float[TAIL_POINTS];
     private int tailHead = 0;
+    // the tail from oldest to newest, as drawn
+    private final float[] pathX = new float[TAIL_POINTS];
+    private final float[] pathY = new float[TAIL_POINTS];
     private float tailTimer = 0f;
     private float tailInterval = 0.015f;
 
@@ -72,8 +77,19 @@ public class EnergyProjectile implements Pool.Poolable {
     private final Vector2 tmpV = new Vector2();
     private final Vector2 tmpTilePos = new Vector2();
 
-    public EnergyProjectile() {
-        ensurePixel();
+    // bounce scatter changes the trajectory, render flicker is purely visual
+    private final GameRandom random;
+    private final GameRandom effectsRandom;
+
+    public EnergyProjectile(
+            GameRandom random,
+            GameRandom effectsRandom,
+            TextureRegion whitePixel,
+            BeamRenderer beams) {
+        this.random = random;
+        this.effectsRandom = effectsRandom;
+        this.whitePixel = whitePixel;
+        this.beams = beams;
     }
 
     public void init(float x, float y, float dirX, float dirY,
@@ -180,8 +196,10 @@ private boolean collidesWallOrMovableWall(float cx, float cy, Maze maze) {
 
         // 2) MovableWall entities
         projRect.set(cx - radius, cy - radius, radius * 2f, radius * 2f);
-        for (Entity e : maze.getEntities()) {
-            if (!(e instanceof MovableWall mw)) continue;
+        Array<MovableWall> walls = maze.getMovableWalls();
+        for (int i = 0; i < walls.size; i++) {
+            MovableWall mw = walls.get(i);
+            if (mw.isDespawned()) continue;
             if (projRect.overlaps(mw.getHitbox())) return true;
         }
         return false;
@@ -231,7 +249,7 @@ private void applyAdvancedBounceScatter() {
         float headOn = Math.abs(tmpV.dot(tmpTangent)); // ~1 for diagonal, ~0 for axis
         float base = 1f - headOn;
 
-        float jitterDeg = MathUtils.random(-bounceScatterDeg, bounceScatterDeg) * (0.35f + 0.65f * base);
+        float jitterDeg = random.random(-bounceScatterDeg, bounceScatterDeg) * (0.35f + 0.65f * base);
         float jitter = MathUtils.sinDeg(jitterDeg);
 
         // deflect along tangent
@@ -250,8 +268,10 @@ private boolean getCollisionNormal(float cx, float cy, Maze maze, Vector2 outNor
         projRect.set(cx - radius, cy - radius, radius * 2f, radius * 2f);
 
         // 1) MovableWall entities (treat as solid)
-        for (Entity e : maze.getEntities()) {
-            if (!(e instanceof MovableWall mw)) continue;
+        Array<MovableWall> walls = maze.getMovableWalls();
+        for (int i = 0; i < walls.size; i++) {
+            MovableWall mw = walls.get(i);
+            if (mw.isDespawned()) continue;
             Rectangle hw = mw.getHitbox();
             if (!projRect.overlaps(hw)) continue;
             computeAabbPushNormal(projRect, hw, outNormal);
@@ -324,8 +344,10 @@ private static void computeAabbPushNormal(Rectangle a, Rectangle b, Vector2 outN
     private void checkMobHit(Maze maze) {
         // If projectile overlaps a mob hitbox -> kill
         projRect.set(x - radius, y - radius, radius * 2f, radius * 2f);
-        for (Entity e : maze.getEntities()) {
-            if (!(e instanceof Mob mob)) continue;
+        Array<Mob> mobs = maze.getMobs();
+        for (int i = 0; i < mobs.size; i++) {
+            Mob mob = mobs.get(i);
+            if (mob.isDespawned()) continue;
             if (projRect.overlaps(mob.getHitbox())) {
                 mob.modifyHealth(-9999f);
                 alive = false;
@@ -352,7 +374,7 @@ public void render(SpriteBatch batch) {
 
         // Energy flicker/pulse
         float pulse = 0.85f + 0.15f * MathUtils.sin((time * 10.0f) * MathUtils.PI2);
-        float flicker = (0.85f + 0.15f * MathUtils.random()) * pulse;
+        float flicker = (0.85f + 0.15f * effectsRandom.random()) * pulse;
 
         // Some alpha modulation near death
         float lifeAlpha = MathUtils.clamp(lifeLeft * 0.65f, 0.2f, 1.0f);
@@ -364,20 +386,26 @@ public void render(SpriteBatch batch) {
 
         for (int i = 0; i < TAIL_POINTS; i++) {
             int idx = (tailHead + i) % TAIL_POINTS; // oldest -> newest
-            float age = (float) i / (TAIL_POINTS - 1); // 0..1
-
-            // Outer flame (wider) - smaller than before
-            float a = lifeAlpha * (0.03f + 0.18f * age) * flicker;
-            float size = radius * vs * (1.6f + 4.2f * age);
-            batch.setColor(glowColor.r, glowColor.g, glowColor.b, a);
-            batch.draw(whitePixel, tailX[idx] - size / 2f, tailY[idx] - size / 2f, size, size);
-
-            // Inner hot streak (smaller & brighter)
-            float a2 = lifeAlpha * (0.02f + 0.14f * age) * flicker;
-            float size2 = radius * vs * (0.95f + 2.2f * age);
-            batch.setColor(1f, 1f, 1f, a2);
-            batch.draw(whitePixel, tailX[idx] - size2 / 2f, tailY[idx] - size2 / 2f, size2, size2);
+            pathX[i] = tailX[idx];
+            pathY[i] = tailY[idx];
         }
+        beams.setPath(pathX, pathY, TAIL_POINTS);
+        float fade = lifeAlpha * flicker;
+
+        // Outer flame (wider), growing and brightening towards the projectile
+        float size = radius * vs;
+        beams.draw(
+                batch,
+                size * 1.6f,
+                size * 5.8f,
+                glowColor.r,
+                glowColor.g,
+                glowColor.b,
+                fade * 0.03f,
+                fade * 0.21f);
+
+        // Inner hot streak (smaller & brighter)
+        beams.draw(batch, size * 0.95f, size * 3.15f, 1f, 1f, 1f, fade * 0.02f, fade * 0.16f);
 
         // ===== Bounce flash (additive) =====
         if (bounceFlash > 0f) {
@@ -431,13 +459,7 @@ private void drawRotRect(SpriteBatch batch, float cx, float cy, float w, float h
                 h,
                 1f,
                 1f,
-                angleDeg,
-                0,
-                0,
-                1,
-                1,
-                false,
-                false);
+                angleDeg);
     }
 
     public boolean isAlive() {
@@ -456,15 +478,4 @@ public void reset() {
         tailHead = 0;
         tailTimer = 0f;
     }
-
-    private static synchronized void ensurePixel() {
-        if (whitePixel == null) {
-            Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-            pm.setColor(Color.WHITE);
-            pm.fill();
-            whitePixel = new Texture(pm);
-            whitePixel.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            pm.dispose();
-        }
-    }
 }
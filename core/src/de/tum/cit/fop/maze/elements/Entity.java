@@ -8,8 +8,21 @@
 
 /** A game object, which can move, has a hitbox, and animation. */
 public abstract class Entity extends MazeObject implements Move {
+    // coarse catch-up after sleeping, see fastForward()
+    private static final float FAST_FORWARD_STEP = 0.25f;
+    private static final float MAX_FAST_FORWARD = 2f;
     protected Helper.Direction direction;
     protected Block currentBlock;
+    // slot in the entity array of the maze, maintained by Maze for O(1) removal
+    int entityIndex = -1;
+    // set once a despawn is requested, the entity is skipped until the maze actually removes it
+    boolean despawned = false;
+    // generational handle issued by the EntityRegistry of the maze while the entity is live
+    int handle = EntityRegistry.NULL_HANDLE;
+    // slot in the typed registry of the maze (keys, mobs, ...), -1 if it belongs to none
+    int typeIndex = -1;
+    // game time the entity was last ticked or spawned at, maintained by Maze for MazeRegions
+    float lastSimulated = 0f;
 
     public Entity(Maze maze, Vector2 position, Vector2 size, Vector2 visualOffset) {
         super(maze, position, size, visualOffset);
@@ -89,13 +102,13 @@ public void performDisplacement(Vector2 displacement) {
         Vector2 projectionX = new Vector2(displacement.x, 0f),
                 projectionY = new Vector2(0f, displacement.y);
         if (projectionX.len() > 0
-                && !checkCollision(getPosition().add(projectionX))
-                && maze.getBorder().contains(getPosition().add(projectionX))) {
+                && !checkCollision(getDisplacedPosition(projectionX))
+                && maze.getBorder().contains(getDisplacedPosition(projectionX))) {
             performForceDisplacement(projectionX);
         }
         if (projectionY.len() > 0
-                && !checkCollision(getPosition().add(projectionY))
-                && maze.getBorder().contains(getPosition().add(projectionY))) {
+                && !checkCollision(getDisplacedPosition(projectionY))
+                && maze.getBorder().contains(getDisplacedPosition(projectionY))) {
             performForceDisplacement(projectionY);
         }
 
@@ -103,7 +116,7 @@ public void performDisplacement(Vector2 displacement) {
         getAdjacent(getHitbox()).forEach(x -> x.onCollision(this));
 
         // arrival hook
-        Block newBlock = maze.getBlock(getCenter());
+        Block newBlock = getCenterBlock();
         if (newBlock != null && currentBlock != newBlock) {
             currentBlock = newBlock;
             newBlock.onArrival(this);
@@ -120,6 +133,60 @@ public int getColumn() {
         return getBlock().getColumn();
     }
 
+    /**
+     * Returns if the entity may stop ticking while its region of the maze is asleep, see
+     * MazeRegions. Entities that must keep running everywhere (the player, timers) return false.
+     */
+    public boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Catches up on the time spent asleep. By default simulated coarsely in a few large steps, and
+     * capped, as the exact state of a far away entity does not matter to the player.
+     */
+    public void fastForward(float time) {
+        time = Math.min(time, MAX_FAST_FORWARD);
+        while (time > 0f && !despawned) {
+            float step = Math.min(time, FAST_FORWARD_STEP);
+            onFrame(step);
+            time -= step;
+        }
+    }
+
+    /**
+     * Returns a hash of the simulated state of this entity, see WorldHash. Subclasses with more
+     * gameplay state than position and direction mix it in.
+     */
+    public long getStateHash() {
+        Rectangle hitbox = getHitbox();
+        long hash = WorldHash.mix(getClass().getName().hashCode(), Float.floatToIntBits(hitbox.x));
+        hash = WorldHash.mix(hash, Float.floatToIntBits(hitbox.y));
+        return WorldHash.mix(hash, direction.ordinal());
+    }
+
+    /**
+     * Returns if the entity may draw anything inside view, entities outside are not rendered. By
+     * default checks the hitbox, entities drawing far beyond it (or updating in render()) override
+     * this.
+     */
+    public boolean isInView(Rectangle view) {
+        return getHitbox().overlaps(view);
+    }
+
+    /** Returns if a despawn of this entity has been requested, see Maze.despawn(). */
+    public boolean isDespawned() {
+        return despawned;
+    }
+
+    /**
+     * Returns the handle of this entity, see Maze.resolveEntity(). NULL_HANDLE if the entity is
+     * not (or no longer) part of the maze.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
     /** Returns the current facing direction of this entity. */
     public Helper.Direction getDirection() {
         return direction;
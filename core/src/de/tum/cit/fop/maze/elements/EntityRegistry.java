@@ -0,0 +1,84 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Issues generational int handles for entities and resolves them in O(1).
+ *
+ * <p>A handle packs a slot index (low bits) and the generation of that slot (high bits). When an
+ * entity is released its slot generation is bumped, so old handles pointing to the recycled slot
+ * are detected as stale instead of silently resolving to a different entity. Handles are plain
+ * ints and can be stored in primitive arrays/maps, saved, or sent over the network.
+ */
+public class EntityRegistry {
+    /** A handle that never resolves to an entity. */
+    public static final int NULL_HANDLE = 0;
+
+    private static final int INDEX_BITS = 16;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    // 15 bits, so that handles are always positive
+    private static final int GENERATION_MASK = 0x7FFF;
+
+    private Entity[] slots = new Entity[64];
+    // generation starts at 1 so that no valid handle equals NULL_HANDLE
+    private int[] generations = new int[64];
+    private final IntArray freeSlots = new IntArray();
+    private int slotCount = 0;
+
+    /** Assigns a new handle to the entity and returns it. */
+    public int register(Entity entity) {
+        int index;
+        if (freeSlots.notEmpty()) {
+            index = freeSlots.pop();
+        } else {
+            if (slotCount > INDEX_MASK) {
+                throw new IllegalStateException("Too many live entities");
+            }
+            if (slotCount == slots.length) grow();
+            index = slotCount++;
+            generations[index] = 1;
+        }
+        slots[index] = entity;
+        entity.handle = (generations[index] << INDEX_BITS) | index;
+        return entity.handle;
+    }
+
+    /** Frees the slot of the handle, every copy of it becomes stale. Stale handles are ignored. */
+    public void release(int handle) {
+        if (!isValid(handle)) return;
+        int index = handle & INDEX_MASK;
+        slots[index].handle = NULL_HANDLE;
+        slots[index] = null;
+        int generation = (generations[index] + 1) & GENERATION_MASK;
+        generations[index] = generation == 0 ? 1 : generation;
+        freeSlots.add(index);
+    }
+
+    /** Returns the entity of the handle, or null if the handle is stale or NULL_HANDLE. */
+    public Entity resolve(int handle) {
+        return isValid(handle) ? slots[handle & INDEX_MASK] : null;
+    }
+
+    /** Returns if the handle still refers to a registered entity. */
+    public boolean isValid(int handle) {
+        int index = handle & INDEX_MASK;
+        return handle != NULL_HANDLE
+                && index < slotCount
+                && slots[index] != null
+                && generations[index] == (handle >>> INDEX_BITS);
+    }
+
+    /** Returns the number of registered entities. */
+    public int size() {
+        return slotCount - freeSlots.size;
+    }
+
+    private void grow() {
+        Entity[] newSlots = new Entity[slots.length * 2];
+        System.arraycopy(slots, 0, newSlots, 0, slots.length);
+        slots = newSlots;
+        int[] newGenerations = new int[generations.length * 2];
+        System.arraycopy(generations, 0, newGenerations, 0, generations.length);
+        generations = newGenerations;
+    }
+}
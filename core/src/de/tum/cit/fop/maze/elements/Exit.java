@@ -29,7 +29,11 @@ public void onArrival(MazeObject other) {
         if (other instanceof Player player) {
             if (!player.hasKey()) {
                 Gdx.app.log("Exit", "You haven't got the key");
-                StoryScreen.getInstance().showMessage("You need a key to exit!");
+                other.getGame()
+                        .runOnRenderThread(
+                                () ->
+                                        StoryScreen.getInstance()
+                                                .showMessage("You need a key to exit!"));
                 return;
             }
 
@@ -46,12 +50,12 @@ public void onArrival(MazeObject other) {
             int score = game.calculateTotalScore(elapsedTime);
 
             // Play spaceship cutscene, then transition to mini game
-            game.setScreen(new CutsceneVideoScreen(
+            game.runOnRenderThread(() -> game.setScreen(new CutsceneVideoScreen(
                 game,
                 MazeRunnerGame.getSpaceshipVideoPath(),
                 () -> game.setScreen(new SpaceCruisesMiniGameScreen(game, score, elapsedTime)),
                 true // allow skip
-            ));
+            )));
         }
     }
 
@@ -0,0 +1,42 @@
+package de.tum.cit.fop.maze.elements;
+
+/**
+ * 16.16 fixed-point helpers for the gameplay simulation, see Maze.isFixedPoint().
+ *
+ * <p>A fixed-point value is an int holding the number times ONE. Addition and subtraction are plain
+ * int operations and therefore exact, so positions accumulated from many small steps do not depend
+ * on float rounding. Conversion to tiles is a shift, as the block size is a power of two.
+ */
+public final class Fixed {
+    public static final int FRACTION_BITS = 16;
+    public static final int ONE = 1 << FRACTION_BITS;
+
+    private Fixed() {}
+
+    /** Rounds value to the nearest fixed-point value. */
+    public static int fromFloat(float value) {
+        return Math.round(value * ONE);
+    }
+
+    /** Converts to float, only meant for rendering and the float based hitbox. */
+    public static float toFloat(int value) {
+        return value * (1f / ONE);
+    }
+
+    public static int fromInt(int value) {
+        return value << FRACTION_BITS;
+    }
+
+    /** Returns the largest integer not greater than value. */
+    public static int floor(int value) {
+        return value >> FRACTION_BITS;
+    }
+
+    public static int mul(int a, int b) {
+        return (int) (((long) a * b) >> FRACTION_BITS);
+    }
+
+    public static int div(int a, int b) {
+        return (int) (((long) a << FRACTION_BITS) / b);
+    }
+}
@@ -0,0 +1,50 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A seeded xorshift128+ random stream with the same helpers as MathUtils, so that gameplay code
+ * can switch from the global MathUtils.random to a reproducible stream without rewriting formulas.
+ */
+public class GameRandom extends RandomXS128 {
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    /** Returns a random number in [0, 1). */
+    public float random() {
+        return nextFloat();
+    }
+
+    /** Returns a random number in [start, end). */
+    public float random(float start, float end) {
+        return start + nextFloat() * (end - start);
+    }
+
+    /** Returns a random number in [start, end], both inclusive. */
+    public int random(int start, int end) {
+        return start + nextInt(end - start + 1);
+    }
+
+    public boolean randomBoolean() {
+        return nextBoolean();
+    }
+
+    /** Returns true with the given chance in [0, 1]. */
+    public boolean randomBoolean(float chance) {
+        return nextFloat() < chance;
+    }
+
+    /** Returns -1 or 1. */
+    public int randomSign() {
+        return 1 | (nextInt() >> 31);
+    }
+
+    /** Sets out to a random unit vector and returns it. */
+    public Vector2 randomDirection(Vector2 out) {
+        float angle = random(0f, MathUtils.PI2);
+        return out.set(MathUtils.cos(angle), MathUtils.sin(angle));
+    }
+}
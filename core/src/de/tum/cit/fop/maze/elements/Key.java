@@ -50,7 +50,7 @@ public void onCollision(MazeObject other) {
 
             keys.play();
 
-            maze.getEntities().removeValue(this, true);
+            maze.despawn(this);
         }
     }
 }
@@ -2,12 +2,13 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntFloatMap;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.Gdx;
 
@@ -46,7 +47,8 @@ public class LightSaberOrbit {
     private static final float DAMAGE_PER_HIT_TRAIL = 4f; // tail particles also hurt
 
     private final Maze maze;
-    private final Texture pixel;
+    // trail particles deal damage, so all of the orbit draws from the weapons stream
+    private final GameRandom random;
     private final Sound orbitSound;
     private long soundId = -1;
 
@@ -65,23 +67,15 @@ public class LightSaberOrbit {
     private final float[] trailAnglesDeg = new float[TRAIL_SEGMENTS];
     private int trailIndex = 0;
 
-    // Particle arrays
-    private final float[] pX = new float[MAX_PARTICLES];
-    private final float[] pY = new float[MAX_PARTICLES];
-    private final float[] pPX = new float[MAX_PARTICLES]; // previous X (for short streaks)
-    private final float[] pPY = new float[MAX_PARTICLES]; // previous Y
-    private final float[] pVX = new float[MAX_PARTICLES];
-    private final float[] pVY = new float[MAX_PARTICLES];
-    private final float[] pLife = new float[MAX_PARTICLES];
-    private final float[] pMaxLife = new float[MAX_PARTICLES];
-    private final float[] pSize = new float[MAX_PARTICLES];
-    private int pCount = 0;
+    // trail sparks, moved and drawn by the particle engine of the maze
+    private final ParticleEngine particles;
+    private final ParticleEngine.Emitter sparks;
     private float particleSpawnAcc = 0f;
 
-    // Hit cooldown tracking (kept small and allocation-free)
-    private final int[] hitEntityId = new int[64];
-    private final float[] hitEntityTime = new float[64];
-    private int hitEntityCount = 0;
+    // Hit cooldown tracking: entity handle -> time when it can be hit again. Stale handles of dead
+    // mobs simply never match again and are dropped on the next activation.
+    private final IntFloatMap hitReadyTime = new IntFloatMap();
+    private float hitClock = 0f;
 
     // Boss hit cooldown (separate from mob cooldown)
     private static final float BOSS_HIT_COOLDOWN = 0.25f; // 0.25 seconds between hits
@@ -94,11 +88,26 @@ public class LightSaberOrbit {
     private final Color cOuter = new Color(0.2f, 0.9f, 1f, 0.25f);
     private final Color cInner = new Color(0.85f, 1f, 1f, 0.85f);
 
-    public LightSaberOrbit(Maze maze, Texture pixel) {
+    public LightSaberOrbit(Maze maze, TextureRegion pixel) {
         this.maze = maze;
-        this.pixel = pixel;
+        this.random = maze.getRandom(MazeRandom.Stream.WEAPONS);
+        this.particles = maze.getParticles();
+        // the sparks hurt mobs, so they must not compete with cosmetic particles
+        sparks = particles.createGameplayEmitter(pixel, MAX_PARTICLES);
+        sparks.additive = true;
+        sparks.drag = 0.90f;
+        sparks.streaks = true;
+        // cyan halo around a warm core, shrinking while fading
+        sparks.startColor.set(0.2f, 0.8f, 1f, 1f);
+        sparks.endColor.set(sparks.startColor);
+        sparks.alpha = 0.22f;
+        sparks.coreColor.set(1f, 0.85f, 0.25f, 1f);
+        sparks.coreAlpha = 0.45f;
+        sparks.coreScale = 0.7f / 1.5f;
+        sparks.startScale = 1.2f * 1.5f;
+        sparks.endScale = 0.85f * 1.5f;
         this.orbitSound = Gdx.audio.newSound(Gdx.files.internal("The_sound_of_lightsaberorbit.wav"));
-        this.angleDeg = MathUtils.random(0f, 360f);
+        this.angleDeg = random.random(0f, 360f);
         for (int i = 0; i < TRAIL_SEGMENTS; i++) {
             trailAnglesDeg[i] = angleDeg;
         }
@@ -115,17 +124,17 @@ public void tryActivate() {
         active = true;
         activeTimer = ACTIVE_DURATION;
         cooldownTimer = COOLDOWN_DURATION;
-        dir = (MathUtils.randomBoolean() ? 1f : -1f);
-        angleDeg = MathUtils.random(0f, 360f);
+        dir = (random.randomBoolean() ? 1f : -1f);
+        angleDeg = random.random(0f, 360f);
         for (int i = 0; i < TRAIL_SEGMENTS; i++) {
             trailAnglesDeg[i] = angleDeg;
         }
         trailIndex = 0;
 
         // reset particles
-        pCount = 0;
+        particles.removeAll(sparks);
         particleSpawnAcc = 0f;
-        hitEntityCount = 0;
+        hitReadyTime.clear();
 
         // Stop any lingering sound first, then play new loop
         if (soundId != -1) {
@@ -147,13 +156,8 @@ public void update(float dt, Vector2 center) {
             soundId = -1;
         }
 
-        if (!active) {
-            // Continue updating particles so they fade out properly
-            if (pCount > 0) {
-                updateParticles(dt);
-            }
-            return;
-        }
+        // particles left over keep fading out in the particle engine
+        if (!active) return;
 
         activeTimer -= dt;
         if (activeTimer <= 0f) {
@@ -163,10 +167,6 @@ public void update(float dt, Vector2 center) {
                 orbitSound.stop(soundId);
                 soundId = -1;
             }
-            // Update remaining particles so they fade out, then return
-            if (pCount > 0) {
-                updateParticles(dt);
-            }
             return;
         }
 
@@ -179,16 +179,15 @@ public void update(float dt, Vector2 center) {
 
         // Emit subtle particles from the "tail" of the blade (opposite tangent direction)
         emitTailParticles(dt, center);
-        updateParticles(dt);
 
         computeBladeAabb(center);
-        computeParticleDamageAabb();
-        tickHitCooldowns(dt);
+        particleRectValid = particles.getBounds(sparks, particleRect);
+        hitClock += dt;
 
-        Array<Entity> entities = maze.getEntities();
-        for (int i = 0; i < entities.size; i++) {
-            Entity e = entities.get(i);
-            if (!(e instanceof Mob mob)) continue;
+        Array<Mob> mobs = maze.getMobs();
+        for (int i = 0; i < mobs.size; i++) {
+            Mob mob = mobs.get(i);
+            if (mob.isDespawned()) continue;
 
             boolean hitByBlade = mob.overlaps(bladeRect);
             boolean hitByTrail = particleRectValid && mob.overlaps(particleRect);
@@ -226,74 +225,12 @@ public void update(float dt, Vector2 center) {
         }
     }
 
-    private void tickHitCooldowns(float dt) {
-        for (int i = 0; i < hitEntityCount; ) {
-            hitEntityTime[i] -= dt;
-            if (hitEntityTime[i] <= 0f) {
-                int last = hitEntityCount - 1;
-                hitEntityId[i] = hitEntityId[last];
-                hitEntityTime[i] = hitEntityTime[last];
-                hitEntityCount--;
-                continue;
-            }
-            i++;
-        }
-    }
-
     private boolean canHitNow(Entity e) {
-        int id = System.identityHashCode(e);
-        for (int i = 0; i < hitEntityCount; i++) {
-            if (hitEntityId[i] == id) return false;
-        }
-        return true;
+        return hitClock >= hitReadyTime.get(e.getHandle(), 0f);
     }
 
     private void markHit(Entity e) {
-        int id = System.identityHashCode(e);
-        // refresh existing
-        for (int i = 0; i < hitEntityCount; i++) {
-            if (hitEntityId[i] == id) {
-                hitEntityTime[i] = HIT_COOLDOWN;
-                return;
-            }
-        }
-        if (hitEntityCount >= hitEntityId.length) return;
-        hitEntityId[hitEntityCount] = id;
-        hitEntityTime[hitEntityCount] = HIT_COOLDOWN;
-        hitEntityCount++;
-    }
-
-    private void computeParticleDamageAabb() {
-        particleRectValid = false;
-        if (pCount <= 0) return;
-
-        float minX = Float.POSITIVE_INFINITY;
-        float minY = Float.POSITIVE_INFINITY;
-        float maxX = Float.NEGATIVE_INFINITY;
-        float maxY = Float.NEGATIVE_INFINITY;
-
-        for (int i = 0; i < pCount; i++) {
-            float s = pSize[i];
-            // include blob area
-            float x0 = pX[i] - s;
-            float y0 = pY[i] - s;
-            float x1 = pX[i] + s;
-            float y1 = pY[i] + s;
-
-            // include streak segment area (previous -> current)
-            float sx0 = Math.min(pX[i], pPX[i]) - s;
-            float sy0 = Math.min(pY[i], pPY[i]) - s;
-            float sx1 = Math.max(pX[i], pPX[i]) + s;
-            float sy1 = Math.max(pY[i], pPY[i]) + s;
-
-            minX = Math.min(minX, Math.min(x0, sx0));
-            minY = Math.min(minY, Math.min(y0, sy0));
-            maxX = Math.max(maxX, Math.max(x1, sx1));
-            maxY = Math.max(maxY, Math.max(y1, sy1));
-        }
-
-        particleRect.set(minX, minY, maxX - minX, maxY - minY);
-        particleRectValid = true;
+        hitReadyTime.put(e.getHandle(), hitClock + HIT_COOLDOWN);
     }
 
     private void computeBladeAabb(Vector2 playerCenter) {
@@ -336,175 +273,91 @@ private void emitTailParticles(float dt, Vector2 playerCenter) {
         float tailY = by - MathUtils.sin(bladeRad) * (BLADE_LENGTH * 0.5f);
 
         for (int i = 0; i < toSpawn; i++) {
-            if (pCount >= MAX_PARTICLES) break;
+            if (sparks.getCount() >= MAX_PARTICLES) break;
 
             // Wider cone behind the blade for a more visible trail
-            float a = bladeRad + MathUtils.PI + MathUtils.random(-1.05f, 1.05f);
-            float speed = MathUtils.random(45f, 150f);
-
-            pX[pCount] = tailX + MathUtils.random(-2.5f, 2.5f);
-            pY[pCount] = tailY + MathUtils.random(-2.5f, 2.5f);
-            pPX[pCount] = pX[pCount];
-            pPY[pCount] = pY[pCount];
-            pVX[pCount] = MathUtils.cos(a) * speed;
-            pVY[pCount] = MathUtils.sin(a) * speed;
-
-            float life = MathUtils.random(PARTICLE_MIN_LIFE, PARTICLE_MAX_LIFE);
-            pLife[pCount] = life;
-            pMaxLife[pCount] = life;
-
+            float a = bladeRad + MathUtils.PI + random.random(-1.05f, 1.05f);
+            float speed = random.random(45f, 150f);
+            float x = tailX + random.random(-2.5f, 2.5f);
+            float y = tailY + random.random(-2.5f, 2.5f);
+            float life = random.random(PARTICLE_MIN_LIFE, PARTICLE_MAX_LIFE);
             // Bigger particles so the trail is more visible
-            pSize[pCount] = MathUtils.random(2.2f, 5.4f);
-            pCount++;
+            float size = random.random(2.2f, 5.4f);
+            particles.spawn(
+                    sparks,
+                    x,
+                    y,
+                    MathUtils.cos(a) * speed,
+                    MathUtils.sin(a) * speed,
+                    life,
+                    size);
         }
     }
 
     private void emitImpactParticles(Vector2 center, int count) {
         for (int i = 0; i < count; i++) {
-            if (pCount >= MAX_PARTICLES) break;
-
-            float a = MathUtils.random(0f, MathUtils.PI2);
-            float speed = MathUtils.random(80f, 220f);
-
-            pX[pCount] = center.x + MathUtils.random(-4f, 4f);
-            pY[pCount] = center.y + MathUtils.random(-4f, 4f);
-            pPX[pCount] = pX[pCount];
-            pPY[pCount] = pY[pCount];
-            pVX[pCount] = MathUtils.cos(a) * speed;
-            pVY[pCount] = MathUtils.sin(a) * speed;
-
-            float life = MathUtils.random(0.16f, 0.28f);
-            pLife[pCount] = life;
-            pMaxLife[pCount] = life;
-            pSize[pCount] = MathUtils.random(3.0f, 6.5f);
-            pCount++;
-        }
-    }
-
-    private void updateParticles(float dt) {
-        for (int i = 0; i < pCount; ) {
-            pLife[i] -= dt;
-            if (pLife[i] <= 0f) {
-                int last = pCount - 1;
-                pX[i] = pX[last];
-                pY[i] = pY[last];
-                pPX[i] = pPX[last];
-                pPY[i] = pPY[last]; // FIX: copy previous Y, not current Y
-                pVX[i] = pVX[last];
-                pVY[i] = pVY[last];
-                pLife[i] = pLife[last];
-                pMaxLife[i] = pMaxLife[last];
-                pSize[i] = pSize[last];
-                pCount--;
-                continue;
-            }
-
-            // store previous position for streak rendering
-            pPX[i] = pX[i];
-            pPY[i] = pY[i];
-
-            pX[i] += pVX[i] * dt;
-            pY[i] += pVY[i] * dt;
-            pVX[i] *= 0.90f;
-            pVY[i] *= 0.90f;
-            i++;
+            if (sparks.getCount() >= MAX_PARTICLES) break;
+
+            float a = random.random(0f, MathUtils.PI2);
+            float speed = random.random(80f, 220f);
+            float x = center.x + random.random(-4f, 4f);
+            float y = center.y + random.random(-4f, 4f);
+            float life = random.random(0.16f, 0.28f);
+            float size = random.random(3.0f, 6.5f);
+            particles.spawn(
+                    sparks,
+                    x,
+                    y,
+                    MathUtils.cos(a) * speed,
+                    MathUtils.sin(a) * speed,
+                    life,
+                    size);
         }
     }
 
     public void render(SpriteBatch batch, Vector2 playerCenter) {
-        if (!active && pCount <= 0) return;
+        if (!active) return;
 
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
 
-        // Particles first (still behind blade): now more visible with dual-layer glow
-        if (pCount > 0) {
-            for (int i = 0; i < pCount; i++) {
-                float a = pLife[i] / pMaxLife[i];
-                float s = pSize[i] * (0.85f + 0.35f * a);
-
-                // ---- short streak line (previous -> current) ----
-                float dx = pX[i] - pPX[i];
-                float dy = pY[i] - pPY[i];
-                float len = (float) Math.sqrt(dx * dx + dy * dy);
-                if (len > 0.001f) {
-                    float ang = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
-                    // clamp streak length so it stays "short" even at high speed/framerate hiccups
-                    float streakLen = Math.min(len * 3.0f, 14f);
-
-                    // cyan halo streak
-                    batch.setColor(0.2f, 0.8f, 1f, a * 0.14f);
-                    drawRotRect(batch, pX[i], pY[i], streakLen, Math.max(1.2f, s * 0.22f), ang);
-
-                    // warm core streak
-                    batch.setColor(1f, 0.85f, 0.25f, a * 0.22f);
-                    drawRotRect(batch, pX[i], pY[i], streakLen, Math.max(0.9f, s * 0.14f), ang);
-                }
-
-                // Outer cyan halo blob
-                batch.setColor(0.2f, 0.8f, 1f, a * 0.22f);
-                batch.draw(pixel, pX[i] - s * 0.75f, pY[i] - s * 0.75f, s * 1.5f, s * 1.5f);
-
-                // Inner warm core blob
-                batch.setColor(1f, 0.85f, 0.25f, a * 0.45f);
-                batch.draw(pixel, pX[i] - s * 0.35f, pY[i] - s * 0.35f, s * 0.7f, s * 0.7f);
-            }
-        }
-
-        if (active) {
-            // ---- TRAIL (afterimages) ----
-            // Newest is at trailIndex; older segments go backwards through ring buffer.
-            for (int s = 0; s < TRAIL_SEGMENTS; s++) {
-                int idx = (trailIndex - s);
-                if (idx < 0) idx += TRAIL_SEGMENTS;
-
-                // alpha decays with age
-                float t = s / (float) (TRAIL_SEGMENTS - 1);
-                float aOuter = MathUtils.lerp(0.20f, 0.02f, t);
-                float aInner = MathUtils.lerp(0.55f, 0.05f, t);
-
-                float orbitDeg = trailAnglesDeg[idx];
-                float orbitRad = orbitDeg * MathUtils.degreesToRadians;
-
-                float bx = playerCenter.x + MathUtils.cos(orbitRad) * ORBIT_RADIUS;
-                float by = playerCenter.y + MathUtils.sin(orbitRad) * ORBIT_RADIUS;
-
-                float bladeDeg = orbitDeg + (dir > 0f ? 90f : -90f);
-
-                // Slightly scale older trail segments so they look softer
-                float scale = 1f + t * 0.35f;
-
-                batch.setColor(cOuter.r, cOuter.g, cOuter.b, aOuter);
-                drawRotRect(batch, bx, by, BLADE_LENGTH * scale, BLADE_THICKNESS * 3.0f * scale, bladeDeg);
-
-                batch.setColor(cInner.r, cInner.g, cInner.b, aInner);
-                drawRotRect(batch, bx, by, BLADE_LENGTH * scale, BLADE_THICKNESS * scale, bladeDeg);
-            }
+        // ---- TRAIL (afterimages) ----
+        // Newest is at trailIndex; older segments go backwards through ring buffer.
+        // At lower detail, fewer afterimages are spread over the same length.
+        int segments = Math.max(2, Math.round(TRAIL_SEGMENTS * maze.getTrailDetail()));
+        BeamRenderer beams = maze.getBeams();
+        for (int k = 0; k < segments; k++) {
+            int s = Math.round(k * (TRAIL_SEGMENTS - 1) / (float) (segments - 1));
+            int idx = (trailIndex - s);
+            if (idx < 0) idx += TRAIL_SEGMENTS;
+
+            // alpha decays with age
+            float t = s / (float) (TRAIL_SEGMENTS - 1);
+            float aOuter = MathUtils.lerp(0.20f, 0.02f, t);
+            float aInner = MathUtils.lerp(0.55f, 0.05f, t);
+
+            float orbitDeg = trailAnglesDeg[idx];
+            float orbitRad = orbitDeg * MathUtils.degreesToRadians;
+
+            float cos = MathUtils.cos(orbitRad);
+            float sin = MathUtils.sin(orbitRad);
+            float bx = playerCenter.x + cos * ORBIT_RADIUS;
+            float by = playerCenter.y + sin * ORBIT_RADIUS;
+
+            // Slightly scale older trail segments so they look softer
+            float scale = 1f + t * 0.35f;
+
+            // the blade lies along the tangent of the orbit
+            float halfL = BLADE_LENGTH * scale * 0.5f;
+            beams.setLine(bx + sin * halfL, by - cos * halfL, bx - sin * halfL, by + cos * halfL);
+
+            beams.draw(batch, BLADE_THICKNESS * 3.0f * scale, cOuter.r, cOuter.g, cOuter.b, aOuter);
+            beams.draw(batch, BLADE_THICKNESS * scale, cInner.r, cInner.g, cInner.b, aInner);
         }
 
         batch.setColor(Color.WHITE);
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
     }
 
-    private void drawRotRect(SpriteBatch batch, float cx, float cy, float w, float h, float rotationDeg) {
-        batch.draw(
-                pixel,
-                cx - w * 0.5f,
-                cy - h * 0.5f,
-                w * 0.5f,
-                h * 0.5f,
-                w,
-                h,
-                1f,
-                1f,
-                rotationDeg,
-                0,
-                0,
-                1,
-                1,
-                false,
-                false);
-    }
-
     /**
      * Stops the looping sound effect immediately.
      * Call this when transitioning screens or when the player exits the level.
@@ -4,7 +4,6 @@
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 
 /** Interactive collectable that provides speed upgrades for the player. */
 public class Lightning extends InteractiveElements {
@@ -33,18 +32,14 @@ public void onCollision(MazeObject other) {
             player.setSpeedFactor(player.getSpeedFactor() + 16f);
             lightning.play();
 
-            // 启动一个延迟任务，7 秒后恢复速度
-            Timer.schedule(
-                    new Timer.Task() {
-                        @Override
-                        public void run() {
-                            float newSpeed = player.getSpeedFactor() - 16f;
-                            player.setSpeedFactor(Math.max(newSpeed, 64f));
-                        }
-                    },
-                    7); // 延迟 7 秒
-
-            maze.getEntities().removeValue(this, true);
+            // 启动一个延迟任务，7 秒后恢复速度 (game time, on the simulation thread)
+            maze.getScheduler().schedule(7f, () -> endBoost(player));
+
+            maze.despawn(this);
         }
     }
+
+    private static void endBoost(Player player) {
+        player.setSpeedFactor(Math.max(player.getSpeedFactor() - 16f, 64f));
+    }
 }
@@ -30,7 +30,7 @@ public void onCollision(MazeObject other) {
         if (other instanceof Player player) {
             player.modifyHealth(20);
             lives.play();
-            maze.getEntities().removeValue(this, true);
+            maze.despawn(this);
         }
     }
 }
@@ -2,16 +2,21 @@
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 
+import de.tum.cit.fop.maze.GameScheduler;
 import de.tum.cit.fop.maze.InvalidMaze;
 import de.tum.cit.fop.maze.MazeRunnerCamera;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.QualityGovernor;
 
 import java.util.Iterator;
 import java.util.Properties;
+import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -19,6 +24,13 @@
 public class Maze extends GameObject implements Iterable<MazeObject>, Visible {
 
     private final float blockSize = 32f;
+    // extra world units drawn around the camera view, covers screen shake and sprites larger than
+    // their cell
+    public float renderMargin = 64f;
+    // log2 of blockSize, for tile lookups of fixed-point positions
+    private static final int BLOCK_SHIFT = 5;
+    // arc and trail detail per quality level, see registerQuality()
+    private static final float[] DETAIL_LEVELS = {0.34f, 0.67f, 1f};
     // base position of the maze
     private final Vector2 position;
     // size of the maze, in number of blocks
@@ -28,14 +40,60 @@ public class Maze extends GameObject implements Iterable<MazeObject>, Visible {
     // this should never be exposed directly,
     // so that we can switch to other implementations, like Array<> provided by libGDX
     private final Block[][] maze;
+    // blocks that have per-frame logic / animated visuals, so that the full grid is not traversed
+    // every frame
+    private final Array<Block> tickingBlocks;
+    private final Array<Block> animatedBlocks;
     private final Array<Entity> entities;
+    // structural changes requested during a frame, applied in one batch by applyPendingChanges()
+    private final Array<Entity> pendingSpawns;
+    private final Array<Entity> pendingDespawns;
+    private final EntityRegistry entityRegistry;
+    // live entities by type, so that systems only interested in e.g. mobs do not scan all entities
+    private final Array<Key> keys;
+    private final Array<Mob> mobs;
+    private final Array<MovableWall> movableWalls;
+    private final Array<InteractiveElements> pickups;
+    private final Array<Mine> hazards;
+    // all gameplay randomness, derived from the level seed
+    private final MazeRandom random;
+    // positions are kept in 16.16 fixed point, see isFixedPoint()
+    private final boolean fixedPoint;
+    private final int fixedOriginX;
+    private final int fixedOriginY;
+    // per-tick hash of the simulated state, to detect diverging runs
+    private final WorldHash worldHash;
+    // timers of the level, driven by onFrame() and thus paused together with the game
+    private final GameScheduler scheduler;
+    // the particles of all effects, updated by onFrame() and drawn by render()
+    private final ParticleEngine particles;
+    // debris of exploding mines, shared by all mines
+    private final ExplosionDebris explosionDebris;
+    // draws the lightning, arcs and lasers of all effects
+    private final BeamRenderer beams;
+    // detail of line effects, lowered by the quality governor on the render thread
+    private volatile float arcDetail = 1f;
+    private volatile float trailDetail = 1f;
     private final Array<Exit> exits;
     private Entry entry;
     private Player player;
     private MazeRunnerCamera camera;
     private final SpaceshipSpawner spaceshipSpawner;
+    // puts the simulation of areas far from the player to sleep
+    private final MazeRegions regions;
     // Skull Boss (always spawns after a delay)
     private final SkullBoss skullBoss;
+    // the static block textures, drawn by renderTiles()
+    private final StaticTileLayer tileLayer;
+    // overview of the explored maze, null until the blocks are loaded
+    private Minimap minimap;
+    // scratch for render() and renderTiles(), which may run on different threads
+    private final Rectangle viewBounds = new Rectangle();
+    private final Rectangle tileBounds = new Rectangle();
+    // what render() draws, as of the start of the current onFrame(), see isVisible()
+    private final Rectangle visibleArea = new Rectangle();
+    // lights submitted during render(), as x, y, radius triples
+    private final FloatArray lights = new FloatArray();
 
     /**
      * Constructor for Maze. Initializes all important elements.
@@ -70,8 +128,31 @@ public Maze(MazeRunnerGame game, Vector2 position, Properties mapProperties)
 
         border = new Rectangle(position.x, position.y, width * blockSize, height * blockSize);
 
+        // must be known before any block or entity is created, see MazeObject
+        fixedPoint = Boolean.parseBoolean(mapProperties.getProperty("FixedPoint"));
+        fixedOriginX = Fixed.fromFloat(position.x);
+        fixedOriginY = Fixed.fromFloat(position.y);
+
+        // must exist before any block or entity is created, as constructors may draw from it
+        random = new MazeRandom(computeSeed(mapProperties));
+        scheduler = new GameScheduler();
+        worldHash = new WorldHash(this);
+        particles = new ParticleEngine();
+        explosionDebris = new ExplosionDebris(particles, game.getResourcePack().getWhitePixel());
+        beams = new BeamRenderer(game.getResourcePack().getWhitePixel());
+
         maze = new Block[width][height];
+        tickingBlocks = new Array<>();
+        animatedBlocks = new Array<>();
         entities = new Array<>();
+        pendingSpawns = new Array<>();
+        pendingDespawns = new Array<>();
+        entityRegistry = new EntityRegistry();
+        keys = new Array<>();
+        mobs = new Array<>();
+        movableWalls = new Array<>();
+        pickups = new Array<>();
+        hazards = new Array<>();
         exits = new Array<>();
         boolean hasKey = false;
         BiFunction<Integer, Integer, Vector2> calcPosition =
@@ -107,38 +188,38 @@ public Maze(MazeRunnerGame game, Vector2 position, Properties mapProperties)
                         break;
 
                     case 4: // Enemy
-                        entities.add(new Skeleton(this, pos));
+                        addEntity(new Skeleton(this, pos));
                         break;
                     case 5: // Key
-                        entities.add(new Key(this, game.getResourcePack().getKeyTexture(), pos));
+                        addEntity(new Key(this, game.getResourcePack().getKeyTexture(), pos));
                         hasKey = true;
                         break;
                     case 6: // Lives
                         Lives life =
                                 new Lives(this, game.getResourcePack().getFullHeartTexture(), pos);
                         life.setScale(0.5f);
-                        entities.add(life);
+                        addEntity(life);
                         break;
                     case 7: // Lightning
                         Lightning lightning =
                                 new Lightning(
                                         this, game.getResourcePack().getLightingTexture(), pos);
                         lightning.setScale(1.0f);
-                        entities.add(lightning);
+                        addEntity(lightning);
                         break;
                     case 8: // Shield
-                        entities.add(
+                        addEntity(
                                 new Shield(this, game.getResourcePack().getShieldTexture(), pos));
                         break;
                     case 9: // MovableWall
-                        entities.add(
+                        addEntity(
                                 new MovableWall(
                                         this, game.getResourcePack().getWallTexture(), pos));
                         break;
                     case 10: // Mine
                         Animation<TextureRegion> explosionAnimation =
                                 game.getResourcePack().getExplosionAnimation();
-                        entities.add(
+                        addEntity(
                                 new Mine(
                                         this,
                                         game.getResourcePack().getMineTexture(),
@@ -162,6 +243,8 @@ public Maze(MazeRunnerGame game, Vector2 position, Properties mapProperties)
                                     game.getResourcePack().getBlackBlockTexture(),
                                     calcPosition.apply(i, j));
                 }
+                registerBlock(maze[i][j]);
+                worldHash.onBlockChanged(i, j, null, maze[i][j]);
             }
         }
 
@@ -175,10 +258,64 @@ public Maze(MazeRunnerGame game, Vector2 position, Properties mapProperties)
         // spaceshipSpawner.spawnInterval = 8f;
         // spaceshipSpawner.lifetime = 6f;
 
+        regions = new MazeRegions(this);
+        tileLayer = new StaticTileLayer(this);
+        minimap = new Minimap(this, game.getResourcePack().getWhitePixel());
+
         // Initialize Skull Boss (will enter from outside the map after a delay)
         skullBoss = new SkullBoss(this);
     }
 
+    /**
+     * Returns the level seed: the "Seed" property if present, otherwise a hash of the map content,
+     * so that the same map file always plays out the same way.
+     */
+    private static long computeSeed(Properties mapProperties) {
+        String seed = mapProperties.getProperty("Seed");
+        if (seed != null) return Long.parseLong(seed.trim());
+        // iterate in sorted order, Properties is a hash table without a stable order
+        long hash = 1125899906842597L;
+        for (String key : new TreeSet<>(mapProperties.stringPropertyNames())) {
+            hash = 31 * hash + key.hashCode();
+            hash = 31 * hash + mapProperties.getProperty(key).hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Creates the textures that elements otherwise create lazily on first use, must be called on
+     * the render thread before the maze is simulated on another thread.
+     */
+    public static void prepareForSimulationThread() {
+        SlashEffect.createSharedTexture();
+    }
+
+    /** Adds the block to the active lists it belongs to. */
+    private void registerBlock(Block block) {
+        if (block.isTicking()) tickingBlocks.add(block);
+        if (block.isAnimated()) animatedBlocks.add(block);
+    }
+
+    /** Removes the block from all active lists. */
+    private void unregisterBlock(Block block) {
+        if (block.isTicking()) tickingBlocks.removeValue(block, true);
+        if (block.isAnimated()) animatedBlocks.removeValue(block, true);
+    }
+
+    /**
+     * Replaces the block at grid cell (x, y), keeping the active block lists in sync.
+     *
+     * @param block the new block, its position should match the cell
+     */
+    public void setBlock(int x, int y, Block block) {
+        if (maze[x][y] != null) unregisterBlock(maze[x][y]);
+        worldHash.onBlockChanged(x, y, maze[x][y], block);
+        maze[x][y] = block;
+        tileLayer.invalidate(x, y);
+        if (minimap != null) minimap.invalidate(x, y);
+        registerBlock(block);
+    }
+
     /** Calculates the row number of given block. */
     public int getRow(Block block) {
         return (int) ((block.getPosition().x - position.x) / blockSize);
@@ -189,35 +326,238 @@ public int getColumn(Block block) {
         return (int) ((block.getPosition().y - position.y) / blockSize);
     }
 
+    /**
+     * Returns all live entities. The array must not be modified directly, use spawn() and
+     * despawn() instead so that the change is applied at a safe point of the frame.
+     */
     public Array<Entity> getEntities() {
         return entities;
     }
 
+    /*
+     * The typed registries below are updated together with the entity array, so they may still
+     * contain entities despawned during the current frame. Callers should skip entities whose
+     * isDespawned() is true. Like getEntities(), the arrays must not be modified directly.
+     */
+
+    /** Returns all live keys. */
+    public Array<Key> getKeys() {
+        return keys;
+    }
+
+    /** Returns all live mobs. */
+    public Array<Mob> getMobs() {
+        return mobs;
+    }
+
+    /** Returns all live movable walls. */
+    public Array<MovableWall> getMovableWalls() {
+        return movableWalls;
+    }
+
+    /** Returns all live collectible items, except keys which are kept in getKeys(). */
+    public Array<InteractiveElements> getPickups() {
+        return pickups;
+    }
+
+    /** Returns all live hazard entities, like mines. */
+    public Array<Mine> getHazards() {
+        return hazards;
+    }
+
+    /** Queues an entity to be added to the maze at the next safe point of the frame. */
+    public void spawn(Entity entity) {
+        pendingSpawns.add(entity);
+    }
+
+    /**
+     * Queues an entity to be removed at the next safe point of the frame. The entity is skipped
+     * by iteration, collision and rendering from now on. Requesting it twice has no effect.
+     */
+    public void despawn(Entity entity) {
+        if (entity.despawned) return;
+        entity.despawned = true;
+        pendingDespawns.add(entity);
+    }
+
+    /**
+     * Applies all queued spawns and despawns in one batch. Must not be called while entities are
+     * being iterated.
+     */
+    public void applyPendingChanges() {
+        for (int i = 0; i < pendingSpawns.size; ++i) {
+            addEntity(pendingSpawns.get(i));
+        }
+        pendingSpawns.clear();
+        for (int i = 0; i < pendingDespawns.size; ++i) {
+            removeEntity(pendingDespawns.get(i));
+        }
+        pendingDespawns.clear();
+    }
+
+    /**
+     * Returns the live entity of the given handle, or null if it has been despawned or the handle
+     * is stale.
+     */
+    public Entity resolveEntity(int handle) {
+        Entity entity = entityRegistry.resolve(handle);
+        return entity == null || entity.despawned ? null : entity;
+    }
+
+    /** Adds an entity immediately, only safe outside of entity iteration. */
+    private void addEntity(Entity entity) {
+        entity.entityIndex = entities.size;
+        entity.lastSimulated = scheduler.getTime();
+        entities.add(entity);
+        entityRegistry.register(entity);
+        if (entity instanceof Key key) {
+            addTyped(keys, key);
+            if (minimap != null) minimap.setKey(key.getHitbox(), true);
+        }
+        else if (entity instanceof Mob mob) addTyped(mobs, mob);
+        else if (entity instanceof MovableWall wall) addTyped(movableWalls, wall);
+        else if (entity instanceof Mine mine) addTyped(hazards, mine);
+        else if (entity instanceof InteractiveElements pickup) addTyped(pickups, pickup);
+    }
+
+    /** Removes an entity immediately by swapping it with the last one, thus O(1). */
+    private void removeEntity(Entity entity) {
+        int index = entity.entityIndex;
+        if (index < 0 || index >= entities.size || entities.get(index) != entity) return;
+        Entity last = entities.pop();
+        if (last != entity) {
+            entities.set(index, last);
+            last.entityIndex = index;
+        }
+        entity.entityIndex = -1;
+        entityRegistry.release(entity.handle);
+        if (entity instanceof Key) {
+            removeTyped(keys, entity);
+            if (minimap != null) minimap.setKey(entity.getHitbox(), false);
+        }
+        else if (entity instanceof Mob) removeTyped(mobs, entity);
+        else if (entity instanceof MovableWall) removeTyped(movableWalls, entity);
+        else if (entity instanceof Mine) removeTyped(hazards, entity);
+        else if (entity instanceof InteractiveElements) removeTyped(pickups, entity);
+    }
+
+    private static <T extends Entity> void addTyped(Array<T> registry, T entity) {
+        entity.typeIndex = registry.size;
+        registry.add(entity);
+    }
+
+    /** Swap-removes the entity from its typed registry, like removeEntity() does. */
+    private static <T extends Entity> void removeTyped(Array<T> registry, Entity entity) {
+        int index = entity.typeIndex;
+        if (index < 0 || index >= registry.size || registry.get(index) != entity) return;
+        T last = registry.pop();
+        if (last != entity) {
+            registry.set(index, last);
+            last.typeIndex = index;
+        }
+        entity.typeIndex = -1;
+    }
+
     public Player getPlayer() {
         return player;
     }
 
     public void setPlayer(Player player) {
         this.player = player;
-        entities.add(player);
+        addEntity(player);
     }
 
     public void setCamera(MazeRunnerCamera camera) {
         this.camera = camera;
+        camera.setRandom(random.get(MazeRandom.Stream.CAMERA));
     }
 
     public MazeRunnerCamera getCamera() {
         return camera;
     }
 
+    /**
+     * Draws everything but the static textures of the blocks, which renderTiles() draws from the
+     * tile cache beforehand.
+     */
     @Override
     public void render() {
-        for (MazeObject obj : this) {
-            obj.render();
+        Rectangle view = getRenderBounds(viewBounds);
+        lights.clear();
+
+        // animated tiles on top, so that neighbouring tiles don't cover their effects
+        for (int i = 0; i < animatedBlocks.size; ++i) {
+            Block block = animatedBlocks.get(i);
+            if (block.getHitbox().overlaps(view)) block.renderAnimation();
+        }
+        for (int i = 0; i < entities.size; ++i) {
+            Entity entity = entities.get(i);
+            if (!entity.despawned && entity.isInView(view)) entity.render();
         }
 
         // Render Skull Boss on top of other elements
         skullBoss.render(game.getSpriteBatch());
+
+        particles.render(game.getSpriteBatch(), view);
+    }
+
+    /**
+     * Draws the static textures of the blocks from the tile cache, before render(). Must be called
+     * on the render thread, outside of a SpriteBatch.
+     *
+     * @param view the area the camera shows, see MazeRunnerCamera.getViewBounds()
+     */
+    public void renderTiles(Matrix4 projection, Rectangle view) {
+        tileLayer.render(projection, widen(tileBounds.set(view)));
+    }
+
+    /**
+     * Adds a light that shows the maze through the fog of war for the current frame, must be
+     * called from render().
+     */
+    public void addLight(float x, float y, float radius) {
+        lights.add(x, y, radius);
+    }
+
+    /** Returns the lights of the last render() as x, y, radius triples, see FogOfWar. */
+    public FloatArray getLights() {
+        return lights;
+    }
+
+    /**
+     * Returns if area is drawn, i.e. near what the camera shows, which includes everything the fog
+     * of war reveals. Only for skipping cosmetic updates: gameplay must never depend on the camera.
+     */
+    public boolean isVisible(Rectangle area) {
+        return area.overlaps(visibleArea);
+    }
+
+    /** Returns the minimap of the maze. */
+    public Minimap getMinimap() {
+        return minimap;
+    }
+
+    /** Releases the tile cache and the minimap. */
+    public void disposeTiles() {
+        tileLayer.dispose();
+        minimap.dispose();
+    }
+
+    /**
+     * Returns the area to draw: what the camera can see plus renderMargin, so that the cost depends
+     * on the screen, not the level size.
+     */
+    private Rectangle getRenderBounds(Rectangle out) {
+        if (camera == null) return out.set(border);
+        return widen(camera.getViewBounds(out));
+    }
+
+    private Rectangle widen(Rectangle out) {
+        return out.set(
+                out.x - renderMargin,
+                out.y - renderMargin,
+                out.width + 2 * renderMargin,
+                out.height + 2 * renderMargin);
     }
 
     public float getBlockSize() {
@@ -260,6 +600,33 @@ public Block getBlock(Vector2 position) {
         return maze[i][j];
     }
 
+    /** Returns the block at grid cell (x, y), which must be inside the maze (border included). */
+    public Block getBlock(int x, int y) {
+        return maze[x][y];
+    }
+
+    /**
+     * Get the block at the given fixed-point position, see Fixed
+     *
+     * @return The block at the given position, or null if the position is outside the maze
+     */
+    public Block getBlockFixed(int fixedX, int fixedY) {
+        int i = (fixedX - fixedOriginX) >> (Fixed.FRACTION_BITS + BLOCK_SHIFT);
+        int j = (fixedY - fixedOriginY) >> (Fixed.FRACTION_BITS + BLOCK_SHIFT);
+        if (i < 0 || i >= width || j < 0 || j >= height) return null;
+        return maze[i][j];
+    }
+
+    /**
+     * Returns if gameplay positions are kept in 16.16 fixed point ("FixedPoint=true" in the map
+     * file). Movement then accumulates exactly in ints and no longer depends on float rounding,
+     * which makes a run reproducible bit for bit from its seed and inputs. Floats are derived from
+     * the fixed-point positions for the hitbox and rendering.
+     */
+    public boolean isFixedPoint() {
+        return fixedPoint;
+    }
+
     public Entry getEntry() {
         return this.entry;
     }
@@ -273,7 +640,10 @@ public Iterator<MazeObject> iterator() {
 
             @Override
             public boolean hasNext() {
-                return isBlock ? (i < width && j < height) : (i < entities.size);
+                if (isBlock) return i < width && j < height;
+                // entities waiting for removal are invisible to iteration
+                while (i < entities.size && entities.get(i).despawned) ++i;
+                return i < entities.size;
             }
 
             @Override
@@ -290,6 +660,7 @@ public MazeObject next() {
                     }
                     return block;
                 } else {
+                    hasNext(); // skips despawned entities
                     return entities.get(i++);
                 }
             }
@@ -298,15 +669,42 @@ public MazeObject next() {
 
     @Override
     public void onFrame(float deltaTime) {
-        // Update spawner before updating entities so spawned pickup can act immediately
-        spaceshipSpawner.update(deltaTime);
+        getRenderBounds(visibleArea);
+
+        // due timers run first, e.g. so that a pickup spawned by the spawner can act immediately
+        scheduler.update(deltaTime);
 
         // Update Skull Boss
         skullBoss.update(deltaTime);
 
-        for (MazeObject obj : this) {
-            obj.onFrame(deltaTime);
+        // safe point: apply changes requested since last frame, e.g. by the spawner or render()
+        applyPendingChanges();
+
+        // wakes up regions the player approaches, fast-forwarding their entities
+        regions.update(deltaTime);
+
+        // only blocks with per-frame logic are ticked, walls and paths are skipped entirely.
+        // Far away traps are purely visual and need no catch-up when their region wakes
+        for (int i = 0; i < tickingBlocks.size; ++i) {
+            Block block = tickingBlocks.get(i);
+            if (regions.isAwake(block.getHitbox())) block.onFrame(deltaTime);
+        }
+        float now = scheduler.getTime();
+        for (int i = 0; i < entities.size; ++i) {
+            Entity entity = entities.get(i);
+            if (entity.despawned) continue;
+            if (entity.canSleep() && !regions.isAwake(entity.getHitbox())) continue;
+            entity.onFrame(deltaTime);
+            entity.lastSimulated = now;
         }
+
+        // one loop for the particles of every effect, some of them (the light saber) hurt mobs
+        particles.update(deltaTime);
+
+        // safe point: deaths and pickups of this frame are removed in one batch
+        applyPendingChanges();
+
+        worldHash.update();
     }
 
     public Vector2 getPosition() {
@@ -381,8 +779,9 @@ public Key findNearestKey(Vector2 position) {
         Function<Key, Float> calcDist =
                 k -> Math.abs(k.getCenter().x - position.x) + Math.abs(k.getCenter().y - position.y);
 
-        for (Entity e : entities) {
-            if (!(e instanceof Key k)) continue;
+        for (int i = 0; i < keys.size; ++i) {
+            Key k = keys.get(i);
+            if (k.isDespawned()) continue;
             if (result == null || calcDist.apply(result) > calcDist.apply(k)) {
                 result = k;
             }
@@ -399,6 +798,68 @@ public float findNearestKeyDirection(Vector2 position) {
         return (float) (Math.atan2(key.getCenter().y - position.y, key.getCenter().x - position.x) * 180f / Math.PI);
     }
 
+    /** Returns the scheduler for callbacks after some game time, see GameScheduler. */
+    public GameScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /** Returns the particle engine all effects of the level emit into. */
+    public ParticleEngine getParticles() {
+        return particles;
+    }
+
+    /**
+     * Lets governor lower the detail of the effects of this level, the light saber trail first,
+     * then electric arcs and lightning branches, then the budget of cosmetic particles. None of
+     * them changes the simulation, which must not depend on the frame time.
+     */
+    public void registerQuality(QualityGovernor governor) {
+        int n = DETAIL_LEVELS.length;
+        governor.register(QualityGovernor.Subsystem.of(n, l -> trailDetail = DETAIL_LEVELS[l]));
+        governor.register(QualityGovernor.Subsystem.of(n, l -> arcDetail = DETAIL_LEVELS[l]));
+        governor.register(particles);
+    }
+
+    /** Returns the fraction of electric arcs and lightning branches to draw, in (0, 1]. */
+    public float getArcDetail() {
+        return arcDetail;
+    }
+
+    /** Returns the fraction of afterimages of trails to draw, in (0, 1]. */
+    public float getTrailDetail() {
+        return trailDetail;
+    }
+
+    /** Returns the beam renderer for line effects, only to be used while rendering. */
+    public BeamRenderer getBeams() {
+        return beams;
+    }
+
+    /** Returns the debris effect shared by the mines. */
+    public ExplosionDebris getExplosionDebris() {
+        return explosionDebris;
+    }
+
+    /** Returns the random streams of this maze, seeded from the level. */
+    public MazeRandom getRandom() {
+        return random;
+    }
+
+    /** Returns the random stream of a subsystem, shorthand for getRandom().get(stream). */
+    public GameRandom getRandom(MazeRandom.Stream stream) {
+        return random.get(stream);
+    }
+
+    /** Returns the region partition used to put far away parts of the maze to sleep. */
+    public MazeRegions getRegions() {
+        return regions;
+    }
+
+    /** Returns the per-tick hash of the simulated state. */
+    public WorldHash getWorldHash() {
+        return worldHash;
+    }
+
     /** Returns the Skull Boss instance */
     public SkullBoss getSkullBoss() {
         return skullBoss;
@@ -12,12 +12,20 @@ public abstract class MazeObject extends GameObject implements Visible, Collisio
     // legacy design: hitbox position + visualOffset = texture position
     // replaced by center-based calculation in renderTextureV2()
     private final Vector2 visualOffset;
+    // canonical position in fixed-point mode (see Maze.isFixedPoint()), the hitbox mirrors it
+    private int fixedX;
+    private int fixedY;
 
     public MazeObject(Maze maze, Vector2 position, Vector2 size, Vector2 visualOffset) {
         super(maze.game);
         this.maze = maze;
         hitbox = new Rectangle(position.x, position.y, size.x, size.y);
         this.visualOffset = visualOffset;
+        if (maze.isFixedPoint()) {
+            fixedX = Fixed.fromFloat(position.x);
+            fixedY = Fixed.fromFloat(position.y);
+            hitbox.setPosition(Fixed.toFloat(fixedX), Fixed.toFloat(fixedY));
+        }
     }
 
     /** Returns the position of the hitbox */
@@ -98,9 +106,47 @@ public void renderTextureV2(TextureRegion texture, float scale) {
 
     /** A wrapper to re-position hitbox. */
     protected void displace(Vector2 displacement) {
+        if (maze.isFixedPoint()) {
+            syncFixed();
+            fixedX += Fixed.fromFloat(displacement.x);
+            fixedY += Fixed.fromFloat(displacement.y);
+            hitbox.setPosition(Fixed.toFloat(fixedX), Fixed.toFloat(fixedY));
+            return;
+        }
         hitbox.setPosition((new Vector2(hitbox.x, hitbox.y)).add(displacement));
     }
 
+    /**
+     * Returns the position of the hitbox after displace(displacement), without moving it. In
+     * fixed-point mode this is rounded the same way, so collision checks match the actual move.
+     */
+    public Vector2 getDisplacedPosition(Vector2 displacement) {
+        if (maze.isFixedPoint()) {
+            syncFixed();
+            return new Vector2(
+                    Fixed.toFloat(fixedX + Fixed.fromFloat(displacement.x)),
+                    Fixed.toFloat(fixedY + Fixed.fromFloat(displacement.y)));
+        }
+        return getPosition().add(displacement);
+    }
+
+    /** Returns the block under the center of the hitbox, null outside the maze. */
+    public Block getCenterBlock() {
+        if (maze.isFixedPoint()) {
+            syncFixed();
+            return maze.getBlockFixed(
+                    fixedX + (Fixed.fromFloat(hitbox.width) >> 1),
+                    fixedY + (Fixed.fromFloat(hitbox.height) >> 1));
+        }
+        return maze.getBlock(getCenter());
+    }
+
+    /** Picks up a position set on the hitbox directly, e.g. a teleport. */
+    private void syncFixed() {
+        if (hitbox.x != Fixed.toFloat(fixedX)) fixedX = Fixed.fromFloat(hitbox.x);
+        if (hitbox.y != Fixed.toFloat(fixedY)) fixedY = Fixed.fromFloat(hitbox.y);
+    }
+
     /** Returns the block where the object is on. If it is a block returns itself. */
     public Block getBlock() {
         Block result = maze.getBlock(getPosition());
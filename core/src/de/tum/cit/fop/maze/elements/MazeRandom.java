@@ -0,0 +1,53 @@
+package de.tum.cit.fop.maze.elements;
+
+import java.util.SplittableRandom;
+
+/**
+ * All randomness of a maze, derived from a single level seed. Every subsystem draws from its own
+ * stream, so that e.g. a change in how many particles are spawned cannot shift the directions mobs
+ * take. Cosmetic streams are never used for anything that affects the game state.
+ */
+public class MazeRandom {
+    /** Independent random streams. New streams must be appended to keep existing ones stable. */
+    public enum Stream {
+        MOBS(false),
+        SPAWNER(false),
+        BOSS(false),
+        PLAYER(false),
+        WEAPONS(false),
+        EFFECTS(true),
+        CAMERA(true);
+
+        private final boolean cosmetic;
+
+        Stream(boolean cosmetic) {
+            this.cosmetic = cosmetic;
+        }
+
+        /** Returns if the stream only drives visuals and may be consumed at render rate. */
+        public boolean isCosmetic() {
+            return cosmetic;
+        }
+    }
+
+    private final long seed;
+    private final GameRandom[] streams;
+
+    public MazeRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        streams = new GameRandom[Stream.values().length];
+        for (Stream stream : Stream.values()) {
+            streams[stream.ordinal()] = new GameRandom(root.split().nextLong());
+        }
+    }
+
+    /** Returns the stream of the given subsystem. */
+    public GameRandom get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,168 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/**
+ * Partitions the maze into square regions and puts the ones far from the player to sleep.
+ *
+ * <p>The distance of a region is the walking distance (in tiles, around walls) from the player to
+ * the nearest tile of the region. Regions go to sleep beyond sleepDistance and only wake again
+ * within wakeDistance, so that a player walking along the border does not make regions flip every
+ * frame. Entities that support it are not ticked while their region sleeps and are fast-forwarded
+ * when it wakes, each by the game time since it was last ticked, as it may have entered the region
+ * long after the region went to sleep.
+ */
+public class MazeRegions {
+    /** Width and height of a region, in tiles. */
+    public static final int REGION_SIZE = 8;
+
+    // Tunables, in tiles. sleepDistance must be larger than wakeDistance
+    public int wakeDistance = 24;
+    public int sleepDistance = 32;
+
+    private final Maze maze;
+    private final int regionsX;
+    private final int regionsY;
+    private final boolean[] awake;
+    // walking distance of each region, recomputed when the player enters another tile
+    private final int[] regionDistance;
+
+    // breadth-first search scratch, a tile is visited if its stamp equals the current search
+    private final int[] visitedStamp;
+    private final int[] tileDistance;
+    private final int[] queue;
+    private int stamp = 0;
+
+    private int lastPlayerX = -1;
+    private int lastPlayerY = -1;
+    private boolean lastFlying = false;
+
+    public MazeRegions(Maze maze) {
+        this.maze = maze;
+        regionsX = (maze.getWidth() + REGION_SIZE - 1) / REGION_SIZE;
+        regionsY = (maze.getHeight() + REGION_SIZE - 1) / REGION_SIZE;
+        awake = new boolean[regionsX * regionsY];
+        regionDistance = new int[regionsX * regionsY];
+        Arrays.fill(awake, true);
+        int tiles = maze.getWidth() * maze.getHeight();
+        visitedStamp = new int[tiles];
+        tileDistance = new int[tiles];
+        queue = new int[tiles];
+    }
+
+    /** Updates which regions are awake, waking up (and fast-forwarding) regions the player nears. */
+    public void update(float deltaTime) {
+        Player player = maze.getPlayer();
+        if (player == null) return;
+
+        int px = tileX(player.getHitbox());
+        int py = tileY(player.getHitbox());
+        // the spaceship flies over walls, so walking distance would underestimate its reach
+        boolean flying = player.isSpaceshipMode();
+        if (px != lastPlayerX || py != lastPlayerY || flying != lastFlying) {
+            lastPlayerX = px;
+            lastPlayerY = py;
+            lastFlying = flying;
+            if (flying) computeStraightDistances(px, py);
+            else computeWalkingDistances(px, py);
+        }
+
+        // woken entities are caught up to the start of this frame, whose step follows in Maze
+        float time = maze.getScheduler().getTime() - deltaTime;
+        for (int r = 0; r < awake.length; ++r) {
+            int distance = regionDistance[r];
+            if (awake[r]) {
+                if (distance > sleepDistance) awake[r] = false;
+            } else if (distance <= wakeDistance) {
+                awake[r] = true;
+                wake(r, time);
+            }
+        }
+    }
+
+    /** Returns if the region containing the center of the hitbox is awake. */
+    public boolean isAwake(Rectangle hitbox) {
+        return awake[regionOf(tileX(hitbox), tileY(hitbox))];
+    }
+
+    // fast-forwards the sleeping entities of region from when they were last ticked to time
+    private void wake(int region, float time) {
+        Array<Entity> entities = maze.getEntities();
+        for (int i = 0; i < entities.size; ++i) {
+            Entity entity = entities.get(i);
+            if (entity.isDespawned() || !entity.canSleep()) continue;
+            Rectangle hitbox = entity.getHitbox();
+            if (regionOf(tileX(hitbox), tileY(hitbox)) == region) {
+                entity.fastForward(time - entity.lastSimulated);
+            }
+        }
+    }
+
+    private void computeWalkingDistances(int px, int py) {
+        Arrays.fill(regionDistance, Integer.MAX_VALUE);
+        int width = maze.getWidth();
+        ++stamp;
+        int head = 0;
+        int tail = 0;
+        int start = px * maze.getHeight() + py;
+        visitedStamp[start] = stamp;
+        tileDistance[start] = 0;
+        queue[tail++] = start;
+        // only search as far as it matters for waking or keeping regions awake
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile / maze.getHeight();
+            int y = tile % maze.getHeight();
+            int distance = tileDistance[tile];
+            int region = regionOf(x, y);
+            if (distance < regionDistance[region]) regionDistance[region] = distance;
+            if (distance == sleepDistance) continue;
+            if (x > 0) tail = visit(x - 1, y, distance + 1, tail);
+            if (x < width - 1) tail = visit(x + 1, y, distance + 1, tail);
+            if (y > 0) tail = visit(x, y - 1, distance + 1, tail);
+            if (y < maze.getHeight() - 1) tail = visit(x, y + 1, distance + 1, tail);
+        }
+    }
+
+    private int visit(int x, int y, int distance, int tail) {
+        int tile = x * maze.getHeight() + y;
+        if (visitedStamp[tile] == stamp || maze.isWall(x, y)) return tail;
+        visitedStamp[tile] = stamp;
+        tileDistance[tile] = distance;
+        queue[tail] = tile;
+        return tail + 1;
+    }
+
+    /** Chebyshev distance from the player tile to the nearest tile of each region. */
+    private void computeStraightDistances(int px, int py) {
+        for (int rx = 0; rx < regionsX; ++rx) {
+            int minX = rx * REGION_SIZE;
+            int dx = Math.max(0, Math.max(minX - px, px - (minX + REGION_SIZE - 1)));
+            for (int ry = 0; ry < regionsY; ++ry) {
+                int minY = ry * REGION_SIZE;
+                int dy = Math.max(0, Math.max(minY - py, py - (minY + REGION_SIZE - 1)));
+                regionDistance[rx * regionsY + ry] = Math.max(dx, dy);
+            }
+        }
+    }
+
+    private int tileX(Rectangle hitbox) {
+        int x = (int) ((hitbox.x + hitbox.width / 2f - maze.getPosition().x) / maze.getBlockSize());
+        return Math.min(Math.max(x, 0), maze.getWidth() - 1);
+    }
+
+    private int tileY(Rectangle hitbox) {
+        int y =
+                (int)
+                        ((hitbox.y + hitbox.height / 2f - maze.getPosition().y)
+                                / maze.getBlockSize());
+        return Math.min(Math.max(y, 0), maze.getHeight() - 1);
+    }
+
+    private int regionOf(int tileX, int tileY) {
+        return (tileX / REGION_SIZE) * regionsY + tileY / REGION_SIZE;
+    }
+}
@@ -4,10 +4,9 @@
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import com.badlogic.gdx.utils.Array;
 
 /** A special type of obstacle that explodes after collides with player. */
 public class Mine extends InteractiveElements {
@@ -16,11 +15,12 @@ public class Mine extends InteractiveElements {
     private final int damage = 40; //
     private final float delayBeforeExplosion = 1.0f;
     private final float explosionDuration = 2.0f;
+    // radius the explosion lights up through the fog of war, shrinking with the animation
+    private final float explosionLightRadius = 110f;
     private final Sound explosion;
     private boolean triggered = false;
     private boolean exploded = false;
     private float explosionStartTime = -1f;
-    private final List<ExplosionDebris> debrisList = new ArrayList<>();
 
     public Mine(
             Maze maze,
@@ -42,61 +42,79 @@ public void onCollision(MazeObject other) {
 
     private void triggerExplosion() {
         triggered = true;
-        explosionStartTime = maze.getGame().getStateTime();
-        System.out.println("Mine triggered! Explosion in " + delayBeforeExplosion + " seconds.");
+        maze.getScheduler().schedule(delayBeforeExplosion, this::explode);
+        Gdx.app.debug("Mine", "Triggered, explodes in " + delayBeforeExplosion + " seconds");
     }
 
     /** Trigger sound effect, texture change, and deal damage to player. */
     private void explode() {
         exploded = true;
+        explosionStartTime = maze.getGame().getStateTime();
         explosion.play();
-        System.out.println("Mine exploded!");
+        Gdx.app.debug("Mine", "Exploded");
         
         // Trigger Screen Shake
         if (maze.getCamera() != null) {
             maze.getCamera().shake(1.0f, 15f); // 1 sec, 15 intensity
         }
 
-        // Spawn Debris
-        for (int i = 0; i < 30; i++) {
-            debrisList.add(new ExplosionDebris(getCenter().x, getCenter().y));
+        // Spawn Debris, it outlives the mine in the maze's particle engine
+        if (maze.isVisible(getHitbox())) {
+            maze.getExplosionDebris()
+                    .spawn(
+                            getCenter().x,
+                            getCenter().y,
+                            30,
+                            maze.getRandom(MazeRandom.Stream.EFFECTS));
         }
 
-        for (MazeObject obj : maze) {
-            float distance = getPosition().dst(obj.getPosition());
-            if (distance <= explosionRadius) {
-                // Linear damage falloff: 100% at center, 0% at edge
-                float scale = 1.0f - (distance / explosionRadius);
-                int actualDamage = Math.max(0, (int) (damage * scale));
-                
-                if (obj instanceof Player player) {
-                    player.modifyHealth(-actualDamage);
-                    System.out.println("Player took damage: " + actualDamage);
-                } else if (obj instanceof Mob mob) {
-                    mob.modifyHealth(-actualDamage);
-                    System.out.println("Mob took damage: " + actualDamage);
-                }
+        // only the player and mobs take damage, no need to walk every block of the maze
+        Player player = maze.getPlayer();
+        if (player != null) {
+            int actualDamage = getExplosionDamage(player);
+            if (actualDamage >= 0) {
+                player.modifyHealth(-actualDamage);
+                Gdx.app.debug("Mine", "Player took damage: " + actualDamage);
+            }
+        }
+        Array<Mob> mobs = maze.getMobs();
+        for (int i = 0; i < mobs.size; i++) {
+            Mob mob = mobs.get(i);
+            if (mob.isDespawned()) continue;
+            int actualDamage = getExplosionDamage(mob);
+            if (actualDamage >= 0) {
+                mob.modifyHealth(-actualDamage);
+                Gdx.app.debug("Mine", "Mob took damage: " + actualDamage);
             }
         }
     }
 
+    /** Returns the damage dealt to obj, or -1 if it is out of the explosion radius. */
+    private int getExplosionDamage(MazeObject obj) {
+        float distance = getPosition().dst(obj.getPosition());
+        if (distance > explosionRadius) return -1;
+        // Linear damage falloff: 100% at center, 0% at edge
+        float scale = 1.0f - (distance / explosionRadius);
+        return Math.max(0, (int) (damage * scale));
+    }
+
+    @Override
+    public boolean isInView(Rectangle view) {
+        // the mine is removed by render() once the explosion animation is over
+        return exploded || super.isInView(view);
+    }
+
     @Override
     public void render() {
         float currentTime = maze.getGame().getStateTime();
-        float deltaTime = Gdx.graphics.getDeltaTime();
-
-        if (triggered && !exploded) {
-            if (currentTime - explosionStartTime >= delayBeforeExplosion) {
-                explode();
-                explosionStartTime = currentTime;
-            }
-        }
 
         if (exploded) {
             float stateTime = currentTime - explosionStartTime;
             
             // Draw Explosion Animation (Larger)
             if (!explosionAnimation.isAnimationFinished(stateTime)) {
+                float fade = 1f - stateTime / explosionAnimation.getAnimationDuration();
+                maze.addLight(getCenter().x, getCenter().y, explosionLightRadius * fade);
                 TextureRegion explosionFrame = explosionAnimation.getKeyFrame(stateTime, false);
                 float animSize = 64f; // Reduced size
                 maze.getGame()
@@ -109,19 +127,8 @@ public void render() {
                                 animSize);
             }
 
-            // Update and Render Debris
-            Iterator<ExplosionDebris> iter = debrisList.iterator();
-            while (iter.hasNext()) {
-                ExplosionDebris debris = iter.next();
-                debris.update(deltaTime);
-                debris.render(maze.getGame().getSpriteBatch());
-                if (debris.isFinished()) {
-                    iter.remove();
-                }
-            }
-
-            if (explosionAnimation.isAnimationFinished(stateTime) && debrisList.isEmpty()) {
-                maze.getEntities().removeValue(this, true);
+            if (explosionAnimation.isAnimationFinished(stateTime)) {
+                maze.despawn(this);
             }
         } else {
             renderTextureV2(
@@ -0,0 +1,327 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An overview of the maze around the player in the top-right corner of the screen.
+ *
+ * <p>The tiles are kept in a Pixmap of one pixel per tile, built when the maze is loaded and
+ * uploaded to a Texture once. Afterwards only cells that change are redrawn in the Pixmap and
+ * uploaded with glTexSubImage2D: blocks replaced through Maze.setBlock(), keys being picked up,
+ * and the tiles the player explores, within revealRadius. Unexplored tiles are transparent.
+ *
+ * <p>Per frame the minimap costs one quad for the background, one for the window of tiles around
+ * the player and one per marker, regardless of the size of the maze. Marker positions are
+ * collected by collectMarkers(), on the simulation thread in threaded mode, and only for the mobs
+ * inside the window. Everything else is only used on the render thread; changes reported from
+ * other threads are queued until the next render().
+ */
+public class Minimap implements Disposable {
+    // colors of the tiles, in RGBA8888
+    private static final int UNEXPLORED = 0;
+    private static final int WALL = Color.rgba8888(0.45f, 0.55f, 0.65f, 1f);
+    private static final int PATH = Color.rgba8888(0.14f, 0.18f, 0.24f, 1f);
+    private static final int ENTRY = Color.rgba8888(0.3f, 0.9f, 0.4f, 1f);
+    private static final int EXIT = Color.rgba8888(0.2f, 0.9f, 1f, 1f);
+    private static final int TRAP = Color.rgba8888(0.9f, 0.35f, 0.2f, 1f);
+    private static final int KEY = Color.rgba8888(1f, 0.85f, 0.2f, 1f);
+    private static final Color BACKGROUND = new Color(0f, 0.02f, 0.05f, 0.6f);
+    private static final Color PLAYER_MARKER = new Color(1f, 1f, 1f, 1f);
+    private static final Color MOB_MARKER = new Color(1f, 0.25f, 0.3f, 1f);
+
+    /** Tiles shown around the player, along each axis. */
+    public int windowTiles = 48;
+    /** Size of a tile on screen, in pixels. */
+    public float tileScale = 3f;
+    /** Distance from the top-right corner of the screen, in pixels. */
+    public float margin = 16f;
+    /** Tiles within this distance of the player become explored. */
+    public int revealRadius = 5;
+
+    private final Maze maze;
+    private final TextureRegion pixel;
+    private final int width;
+    private final int height;
+    // whether the player has seen each tile, by x * height + y
+    private final boolean[] explored;
+    // whether a live key lies on each tile, guarded by pending
+    private final boolean[] keyCells;
+    // tiles changed since the last render(), guarded by itself
+    private final IntArray pending = new IntArray();
+    private final IntArray draining = new IntArray();
+    // one pixel per tile, row 0 is the top row of the maze
+    private final Pixmap pixmap;
+    private int lastTileX = -1;
+    private int lastTileY = -1;
+    // changed pixels not uploaded yet, empty if maxColumn < minColumn
+    private int minColumn;
+    private int minRow;
+    private int maxColumn;
+    private int maxRow;
+
+    // created on first render, so that the minimap can be constructed off the render thread
+    private Texture texture;
+    private ByteBuffer upload;
+    private final TextureRegion window = new TextureRegion();
+    private final Matrix4 projection = new Matrix4();
+
+    /** Creates the minimap of maze, drawing the background and markers with a white pixel. */
+    public Minimap(Maze maze, TextureRegion pixel) {
+        this.maze = maze;
+        this.pixel = pixel;
+        width = maze.getWidth();
+        height = maze.getHeight();
+        explored = new boolean[width * height];
+        keyCells = new boolean[width * height];
+        Array<Key> keys = maze.getKeys();
+        for (int i = 0; i < keys.size; ++i) {
+            int tile = tileOf(keys.get(i).getHitbox());
+            if (tile >= 0) keyCells[tile] = true;
+        }
+
+        pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        // pixels are replaced, not blended
+        pixmap.setBlending(Pixmap.Blending.None);
+        for (int x = 0; x < width; ++x) {
+            for (int y = 0; y < height; ++y) {
+                pixmap.drawPixel(x, height - 1 - y, color(x, y));
+            }
+        }
+        clearDirty();
+    }
+
+    /** Redraws tile (x, y) before the next render(), e.g. after its block was replaced. */
+    public void invalidate(int x, int y) {
+        synchronized (pending) {
+            pending.add(x * height + y);
+        }
+    }
+
+    /** Shows or hides the key at the tile of hitbox. */
+    public void setKey(Rectangle hitbox, boolean present) {
+        int tile = tileOf(hitbox);
+        if (tile < 0) return;
+        synchronized (pending) {
+            keyCells[tile] = present;
+            pending.add(tile);
+        }
+    }
+
+    /**
+     * Replaces out with the x, y pairs of the markers inside the window around the player at
+     * (playerX, playerY). May be called on the simulation thread, see RenderSnapshot.
+     */
+    public void collectMarkers(float playerX, float playerY, FloatArray out) {
+        out.clear();
+        int windowWidth = Math.min(windowTiles, width);
+        int windowHeight = Math.min(windowTiles, height);
+        int originX = windowOrigin(tileX(playerX), windowWidth, width);
+        int originY = windowOrigin(tileY(playerY), windowHeight, height);
+        Array<Mob> mobs = maze.getMobs();
+        for (int i = 0; i < mobs.size; ++i) {
+            Mob mob = mobs.get(i);
+            if (mob.isDespawned()) continue;
+            Rectangle hitbox = mob.getHitbox();
+            float x = hitbox.x + hitbox.width / 2f;
+            float y = hitbox.y + hitbox.height / 2f;
+            int tileX = tileX(x) - originX;
+            int tileY = tileY(y) - originY;
+            if (tileX < 0 || tileX >= windowWidth || tileY < 0 || tileY >= windowHeight) continue;
+            out.add(x, y);
+        }
+    }
+
+    /**
+     * Explores the tiles around the player at (playerX, playerY), uploads what changed and draws
+     * the minimap with the markers of collectMarkers(). Must be called on the render thread,
+     * outside of a batch.
+     */
+    public void render(SpriteBatch batch, float playerX, float playerY, FloatArray markers) {
+        if (texture == null) {
+            texture = new Texture(pixmap);
+            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            upload = BufferUtils.newByteBuffer(width * height * 4);
+            // the texture starts out with all of the pixmap
+            clearDirty();
+        }
+        int playerTileX = tileX(playerX);
+        int playerTileY = tileY(playerY);
+        applyPending();
+        explore(playerTileX, playerTileY);
+
+        int windowWidth = Math.min(windowTiles, width);
+        int windowHeight = Math.min(windowTiles, height);
+        int originX = windowOrigin(playerTileX, windowWidth, width);
+        int originY = windowOrigin(playerTileY, windowHeight, height);
+        int screenWidth = Gdx.graphics.getBackBufferWidth();
+        int screenHeight = Gdx.graphics.getBackBufferHeight();
+        float mapWidth = windowWidth * tileScale;
+        float mapHeight = windowHeight * tileScale;
+        float mapX = screenWidth - margin - mapWidth;
+        float mapY = screenHeight - margin - mapHeight;
+        // screen pixels per world unit
+        float scale = tileScale / maze.getBlockSize();
+        float worldX = maze.getPosition().x + originX * maze.getBlockSize();
+        float worldY = maze.getPosition().y + originY * maze.getBlockSize();
+
+        Gdx.gl.glViewport(0, 0, screenWidth, screenHeight);
+        batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, screenWidth, screenHeight));
+        batch.begin();
+        batch.setColor(BACKGROUND);
+        batch.draw(pixel, mapX - 2f, mapY - 2f, mapWidth + 4f, mapHeight + 4f);
+        batch.setColor(Color.WHITE);
+        // pixmap rows go downwards
+        int top = height - originY - windowHeight;
+        window.setRegion(texture, originX, top, windowWidth, windowHeight);
+        batch.draw(window, mapX, mapY, mapWidth, mapHeight);
+
+        float markerSize = Math.max(2f, tileScale);
+        batch.setColor(MOB_MARKER);
+        for (int i = 0; i + 1 < markers.size; i += 2) {
+            float x = mapX + (markers.get(i) - worldX) * scale;
+            float y = mapY + (markers.get(i + 1) - worldY) * scale;
+            batch.draw(pixel, x - markerSize / 2f, y - markerSize / 2f, markerSize, markerSize);
+        }
+        batch.setColor(PLAYER_MARKER);
+        float playerSize = markerSize * 1.5f;
+        float x = mapX + (playerTileX - originX + 0.5f) * tileScale;
+        float y = mapY + (playerTileY - originY + 0.5f) * tileScale;
+        batch.draw(pixel, x - playerSize / 2f, y - playerSize / 2f, playerSize, playerSize);
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    // redraws the tiles reported by invalidate() and setKey(), each uploaded on its own as they
+    // are rare and usually far apart
+    private void applyPending() {
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            draining.addAll(pending);
+            pending.clear();
+            for (int i = 0; i < draining.size; ++i) {
+                int tile = draining.get(i);
+                redraw(tile / height, tile % height);
+                uploadDirty();
+            }
+        }
+        draining.clear();
+    }
+
+    // marks the tiles around the player explored when the player enters another tile
+    private void explore(int tileX, int tileY) {
+        if (tileX == lastTileX && tileY == lastTileY) return;
+        lastTileX = tileX;
+        lastTileY = tileY;
+        int radius = revealRadius;
+        int minX = Math.max(0, tileX - radius);
+        int maxX = Math.min(width - 1, tileX + radius);
+        int minY = Math.max(0, tileY - radius);
+        int maxY = Math.min(height - 1, tileY + radius);
+        for (int x = minX; x <= maxX; ++x) {
+            for (int y = minY; y <= maxY; ++y) {
+                int dx = x - tileX;
+                int dy = y - tileY;
+                if (dx * dx + dy * dy > radius * radius || explored[x * height + y]) continue;
+                explored[x * height + y] = true;
+                redraw(x, y);
+            }
+        }
+        uploadDirty();
+    }
+
+    private void redraw(int x, int y) {
+        int row = height - 1 - y;
+        pixmap.drawPixel(x, row, color(x, y));
+        minColumn = Math.min(minColumn, x);
+        maxColumn = Math.max(maxColumn, x);
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+    }
+
+    // uploads the rectangle of pixels changed since the last upload
+    private void uploadDirty() {
+        if (maxColumn < minColumn) return;
+        int rowBytes = (maxColumn - minColumn + 1) * 4;
+        ByteBuffer pixels = pixmap.getPixels();
+        upload.clear();
+        for (int row = minRow; row <= maxRow; ++row) {
+            upload.put(upload.position(), pixels, (row * width + minColumn) * 4, rowBytes);
+            upload.position(upload.position() + rowBytes);
+        }
+        upload.flip();
+        texture.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        Gdx.gl.glTexSubImage2D(
+                GL20.GL_TEXTURE_2D,
+                0,
+                minColumn,
+                minRow,
+                maxColumn - minColumn + 1,
+                maxRow - minRow + 1,
+                GL20.GL_RGBA,
+                GL20.GL_UNSIGNED_BYTE,
+                upload);
+        clearDirty();
+    }
+
+    private void clearDirty() {
+        minColumn = Integer.MAX_VALUE;
+        minRow = Integer.MAX_VALUE;
+        maxColumn = -1;
+        maxRow = -1;
+    }
+
+    private int color(int x, int y) {
+        if (!explored[x * height + y]) return UNEXPLORED;
+        if (keyCells[x * height + y]) return KEY;
+        Block block = maze.getBlock(x, y);
+        if (block instanceof Exit) return EXIT;
+        if (block instanceof Entry) return ENTRY;
+        if (block instanceof Trap) return TRAP;
+        return block.isObstacle() ? WALL : PATH;
+    }
+
+    private int tileX(float worldX) {
+        return MathUtils.floor((worldX - maze.getPosition().x) / maze.getBlockSize());
+    }
+
+    private int tileY(float worldY) {
+        return MathUtils.floor((worldY - maze.getPosition().y) / maze.getBlockSize());
+    }
+
+    // index of the tile at the center of hitbox, -1 outside of the maze
+    private int tileOf(Rectangle hitbox) {
+        int x = tileX(hitbox.x + hitbox.width / 2f);
+        int y = tileY(hitbox.y + hitbox.height / 2f);
+        if (x < 0 || x >= width || y < 0 || y >= height) return -1;
+        return x * height + y;
+    }
+
+    // first tile of a window of size tiles centered on tile, kept inside the maze
+    private static int windowOrigin(int tile, int size, int mazeSize) {
+        return MathUtils.clamp(tile - size / 2, 0, mazeSize - size);
+    }
+
+    @Override
+    public void dispose() {
+        if (texture != null) texture.dispose();
+        texture = null;
+        pixmap.dispose();
+    }
+}
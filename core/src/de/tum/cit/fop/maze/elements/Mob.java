@@ -27,17 +27,24 @@ public Mob(
     @Override
     public void onEmptyHealth() {
         game.addBonusScore(SCORE_KILL_MOB);
-        maze.getEntities().removeValue(this, true);
+        maze.despawn(this);
     }
 
     @Override
     public void modifyHealth(float deltaHealth) {
+        // already dead, waiting for removal, must not die (and score) twice
+        if (isDespawned()) return;
         health = Math.min(health + deltaHealth, maxHealth);
         if (health <= 0) {
             onEmptyHealth();
         }
     }
 
+    @Override
+    public long getStateHash() {
+        return WorldHash.mix(super.getStateHash(), Float.floatToIntBits(health));
+    }
+
     @Override
     public void render() {
         renderTexture(moveAnimation.getTexture(super.direction, super.game.getStateTime()));
@@ -86,8 +93,13 @@ public void onFrame(float deltaTime) {
         performDisplacement(deltaTime, direction);
     }
 
+    @Override
+    public boolean canSleep() {
+        return true;
+    }
+
     /** Changes direction to a random one. */
     public void changeDirection() {
-        direction = Helper.getRandomDirection();
+        direction = Helper.getRandomDirection(maze.getRandom(MazeRandom.Stream.MOBS));
     }
 }
@@ -15,7 +15,7 @@ public class MovableWall extends Entity {
     public MovableWall(Maze maze, TextureRegion wallTexture, Vector2 position) {
         super(maze, position, new Vector2(32, 32), Vector2.Zero);
         this.wallTexture = wallTexture;
-        direction = Helper.getRandomDirection();
+        direction = Helper.getRandomDirection(maze.getRandom(MazeRandom.Stream.MOBS));
     }
 
     @Override
@@ -44,6 +44,11 @@ public void onFrame(float deltaTime) {
         }
     }
 
+    @Override
+    public boolean canSleep() {
+        return true;
+    }
+
     @Override
     public void render() {
 
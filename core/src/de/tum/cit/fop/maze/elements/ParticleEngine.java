@@ -0,0 +1,359 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import de.tum.cit.fop.maze.QualityGovernor;
+
+/**
+ * The particles of all effects of a screen, updated in one loop and drawn in one pass per blend
+ * mode.
+ *
+ * <p>Particles are stored as parallel primitive arrays up to a fixed capacity, a dead particle is
+ * replaced by the last one, so that spawning and dying never allocate. How the particles of an
+ * effect move and look is described by its Emitter, created once by the effect and configured
+ * through its public fields. When the capacity is reached, new particles are dropped.
+ *
+ * <p>Particles that the simulation depends on, like the light saber sparks that hurt mobs, belong
+ * to gameplay emitters. Their capacity is reserved when they are created, so cosmetic effects can
+ * never crowd them out.
+ *
+ * <p>As a QualityGovernor subsystem, every level below the highest halves the number of cosmetic
+ * particles alive at once. Gameplay particles are never limited by the quality level.
+ */
+public class ParticleEngine implements QualityGovernor.Subsystem {
+    public static final int DEFAULT_CAPACITY = 2048;
+    public static final int QUALITY_LEVELS = 4;
+    // streaks are thin and faint compared to the particle itself
+    private static final float STREAK_ALPHA = 0.6f;
+    private static final float STREAK_LENGTH = 3f;
+    private static final float MAX_STREAK_LENGTH = 14f;
+
+    /** How the particles of one effect move and look. */
+    public static class Emitter {
+        private final int id;
+        private final TextureRegion region;
+        private final boolean gameplay;
+        private int count = 0;
+
+        /** Additive blending instead of alpha blending. */
+        public boolean additive = false;
+        /** Factor the velocity is multiplied with on every update. */
+        public float drag = 1f;
+        /** Color at birth, faded towards endColor over the life of a particle. */
+        public final Color startColor = new Color(Color.WHITE);
+        public final Color endColor = new Color(Color.WHITE);
+        /** Alpha at birth, fading to 0 at death. */
+        public float alpha = 1f;
+        /** Size multipliers at birth and at death. */
+        public float startScale = 1f;
+        public float endScale = 1f;
+        /** Color, alpha and size of a second quad drawn on top, none while coreAlpha is 0. */
+        public final Color coreColor = new Color(Color.WHITE);
+        public float coreAlpha = 0f;
+        public float coreScale = 0.5f;
+        /** Draws a short streak along the last movement of each particle. */
+        public boolean streaks = false;
+        /** Most particles of this emitter alive at once, fixed for gameplay emitters. */
+        public int maxParticles = Integer.MAX_VALUE;
+
+        private Emitter(int id, TextureRegion region, boolean gameplay) {
+            this.id = id;
+            this.region = region;
+            this.gameplay = gameplay;
+        }
+
+        /** Returns the number of living particles of this emitter. */
+        public int getCount() {
+            return count;
+        }
+    }
+
+    private final int capacity;
+    private final float[] x;
+    private final float[] y;
+    private final float[] prevX;
+    private final float[] prevY;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final float[] size;
+    private final float[] rotation;
+    private final float[] spin;
+    // packed color multiplied with the emitter colors
+    private final float[] tint;
+    private final int[] emitter;
+    private int count = 0;
+    // living particles of cosmetic emitters, which may use all but the reserved capacity
+    private int cosmeticCount = 0;
+    private int reserved = 0;
+    // lowered by the quality governor, possibly from another thread than the simulation
+    private volatile int budget;
+
+    private final Array<Emitter> emitters = new Array<>();
+    private final Color color = new Color();
+    private final Color tintColor = new Color();
+
+    public ParticleEngine() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParticleEngine(int capacity) {
+        this.capacity = capacity;
+        budget = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new float[capacity];
+        rotation = new float[capacity];
+        spin = new float[capacity];
+        tint = new float[capacity];
+        emitter = new int[capacity];
+    }
+
+    /** Creates an emitter whose particles are drawn with region. */
+    public Emitter createEmitter(TextureRegion region) {
+        Emitter created = new Emitter(emitters.size, region, false);
+        emitters.add(created);
+        return created;
+    }
+
+    /**
+     * Creates an emitter whose particles affect the simulation, with room for maxParticles of
+     * them reserved, so that they spawn regardless of the other emitters.
+     *
+     * @throws IllegalStateException if less than maxParticles are left to reserve
+     */
+    public Emitter createGameplayEmitter(TextureRegion region, int maxParticles) {
+        if (reserved + maxParticles > capacity - cosmeticCount) {
+            throw new IllegalStateException("Cannot reserve " + maxParticles + " particles");
+        }
+        Emitter created = new Emitter(emitters.size, region, true);
+        created.maxParticles = maxParticles;
+        reserved += maxParticles;
+        emitters.add(created);
+        return created;
+    }
+
+    /**
+     * Spawns a particle centered at (x, y), moving by (vx, vy) per second.
+     *
+     * @return the index of the particle for setTint() and setRotation(), only valid until the next
+     *     update(), or -1 if the engine or the emitter is full
+     */
+    public int spawn(Emitter e, float x, float y, float vx, float vy, float life, float size) {
+        if (e.count >= e.maxParticles || count >= capacity) return -1;
+        // the quality budget must not change the simulation, so it only limits cosmetic particles
+        if (!e.gameplay && cosmeticCount >= Math.min(budget, capacity - reserved)) return -1;
+        int i = count++;
+        e.count++;
+        if (!e.gameplay) cosmeticCount++;
+        this.x[i] = prevX[i] = x;
+        this.y[i] = prevY[i] = y;
+        this.vx[i] = vx;
+        this.vy[i] = vy;
+        this.life[i] = maxLife[i] = life;
+        this.size[i] = size;
+        rotation[i] = 0f;
+        spin[i] = 0f;
+        tint[i] = Color.WHITE_FLOAT_BITS;
+        emitter[i] = e.id;
+        return i;
+    }
+
+    /** Multiplies the colors of particle i with (r, g, b). */
+    public void setTint(int i, float r, float g, float b) {
+        if (i >= 0) tint[i] = Color.toFloatBits(r, g, b, 1f);
+    }
+
+    /** Rotates particle i by rotation degrees, turning by spin degrees per second. */
+    public void setRotation(int i, float rotation, float spin) {
+        if (i < 0) return;
+        this.rotation[i] = rotation;
+        this.spin[i] = spin;
+    }
+
+    /** Moves all particles and removes the dead ones. */
+    public void update(float delta) {
+        for (int i = 0; i < count; ) {
+            life[i] -= delta;
+            if (life[i] <= 0f) {
+                remove(i);
+                continue;
+            }
+            Emitter e = emitters.get(emitter[i]);
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            vx[i] *= e.drag;
+            vy[i] *= e.drag;
+            rotation[i] += spin[i] * delta;
+            ++i;
+        }
+    }
+
+    /** Removes all particles of e. */
+    public void removeAll(Emitter e) {
+        for (int i = 0; i < count; ) {
+            if (emitter[i] == e.id) remove(i);
+            else ++i;
+        }
+    }
+
+    private void remove(int i) {
+        Emitter e = emitters.get(emitter[i]);
+        e.count--;
+        if (!e.gameplay) cosmeticCount--;
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        rotation[i] = rotation[last];
+        spin[i] = spin[last];
+        tint[i] = tint[last];
+        emitter[i] = emitter[last];
+    }
+
+    /**
+     * Writes the area covered by the particles of e, including their streaks, into out.
+     *
+     * @return false if e has no particles, out is unchanged then
+     */
+    public boolean getBounds(Emitter e, Rectangle out) {
+        if (e.count == 0) return false;
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; ++i) {
+            if (emitter[i] != e.id) continue;
+            float s = size[i];
+            minX = Math.min(minX, Math.min(x[i], prevX[i]) - s);
+            minY = Math.min(minY, Math.min(y[i], prevY[i]) - s);
+            maxX = Math.max(maxX, Math.max(x[i], prevX[i]) + s);
+            maxY = Math.max(maxY, Math.max(y[i], prevY[i]) + s);
+        }
+        out.set(minX, minY, maxX - minX, maxY - minY);
+        return true;
+    }
+
+    /**
+     * Draws all particles inside view (null draws all), the alpha blended ones first, then the
+     * additive ones. Leaves the batch with the default blend function and color.
+     */
+    public void render(SpriteBatch batch, Rectangle view) {
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        renderPass(batch, view, false);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+        renderPass(batch, view, true);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setColor(Color.WHITE);
+    }
+
+    private void renderPass(SpriteBatch batch, Rectangle view, boolean additive) {
+        for (int i = 0; i < count; ++i) {
+            Emitter e = emitters.get(emitter[i]);
+            if (e.additive != additive) continue;
+
+            float a = life[i] / maxLife[i];
+            float s = size[i] * MathUtils.lerp(e.endScale, e.startScale, a);
+            if (view != null
+                    && (x[i] + s < view.x
+                            || x[i] - s > view.x + view.width
+                            || y[i] + s < view.y
+                            || y[i] - s > view.y + view.height)) continue;
+
+            Color.abgr8888ToColor(tintColor, tint[i]);
+            color.set(e.endColor).lerp(e.startColor, a).mul(tintColor);
+            color.a = e.alpha * a;
+            if (e.streaks) {
+                drawStreak(batch, e, i, color, Math.max(1.2f, s * 0.22f));
+            }
+            batch.setColor(color);
+            drawQuad(batch, e.region, x[i], y[i], s, rotation[i]);
+
+            if (e.coreAlpha > 0f) {
+                color.set(e.coreColor).mul(tintColor);
+                color.a = e.coreAlpha * a;
+                if (e.streaks) {
+                    drawStreak(batch, e, i, color, Math.max(0.9f, s * 0.14f));
+                }
+                batch.setColor(color);
+                drawQuad(batch, e.region, x[i], y[i], s * e.coreScale, rotation[i]);
+            }
+        }
+    }
+
+    private void drawStreak(SpriteBatch batch, Emitter e, int i, Color base, float width) {
+        float dx = x[i] - prevX[i];
+        float dy = y[i] - prevY[i];
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        if (distance <= 0.001f) return;
+        float length = Math.min(distance * STREAK_LENGTH, MAX_STREAK_LENGTH);
+        float angle = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
+        batch.setColor(base.r, base.g, base.b, base.a * STREAK_ALPHA);
+        batch.draw(
+                e.region,
+                x[i] - length / 2f,
+                y[i] - width / 2f,
+                length / 2f,
+                width / 2f,
+                length,
+                width,
+                1f,
+                1f,
+                angle);
+    }
+
+    private static void drawQuad(
+            SpriteBatch batch, TextureRegion region, float cx, float cy, float s, float rotation) {
+        if (rotation == 0f) {
+            batch.draw(region, cx - s / 2f, cy - s / 2f, s, s);
+        } else {
+            batch.draw(region, cx - s / 2f, cy - s / 2f, s / 2f, s / 2f, s, s, 1f, 1f, rotation);
+        }
+    }
+
+    @Override
+    public int getLevelCount() {
+        return QUALITY_LEVELS;
+    }
+
+    /**
+     * Cosmetic particles beyond the new budget live on, but no new ones spawn until below it.
+     */
+    @Override
+    public void setLevel(int level) {
+        budget = Math.max(1, capacity >> (QUALITY_LEVELS - 1 - level));
+    }
+
+    /** Returns the number of living particles. */
+    public int getCount() {
+        return count;
+    }
+
+    /** Removes all particles. */
+    public void clear() {
+        count = 0;
+        cosmeticCount = 0;
+        for (Emitter e : emitters) e.count = 0;
+    }
+}
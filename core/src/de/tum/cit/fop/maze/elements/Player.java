@@ -5,8 +5,6 @@
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
@@ -15,12 +13,10 @@
 import com.badlogic.gdx.utils.Disposable;
 
 import de.tum.cit.fop.maze.GameOverScreen;
+import de.tum.cit.fop.maze.GameScheduler;
 import de.tum.cit.fop.maze.Helper;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 
 /** The main characters. */
@@ -37,11 +33,13 @@ public class Player extends Entity implements Health, Disposable {
     private final Sound spaceshipSound;
     private long spaceshipSoundId = -1;
     private float health;
+    // set by the first onEmptyHealth(), which ends the level
+    private boolean dead = false;
     private float lastHitTimestamp;
     private boolean hasKey;
     private float speedFactor = 64f;
     private boolean hasShield = false;
-    private float shieldStartTime = 0f;
+    private GameScheduler.Timer shieldTimer;
     private float attackAnimationTimer = 0f;
     private boolean isRed = false;
     private float redEffectTimer = 0f;
@@ -55,7 +53,7 @@ public class Player extends Entity implements Health, Disposable {
     private static final float SHIP_HEAT_RATE = 1.0f / 3.0f;
     private static final float SHIP_COOL_RATE = 1.0f;
     private static final float SHIP_OVERHEAT_PENALTY = 0.5f;
-    private float shipOverheatTimer = 0f;
+    private GameScheduler.Timer shipOverheatTimer;
     private float shipFireTimer = 0f;
     private static final float SHIP_FIRE_RATE = 0.1f;
 
@@ -68,8 +66,11 @@ public class Player extends Entity implements Health, Disposable {
     private final Vector2 tmpMove = new Vector2();
 
     // Visual Effects Fields
-    private Texture particleTexture;
-    private List<AttackParticle> particles;
+    // white pixel of the resource pack atlas
+    private TextureRegion particleTexture;
+    // sparks flying off the swing and the cyan arc of the blade
+    private final ParticleEngine.Emitter sparks;
+    private final ParticleEngine.Emitter arc;
     private float effectAngle = 0f;
 
     // Slash Effect System
@@ -77,7 +78,7 @@ public class Player extends Entity implements Health, Disposable {
 
     // Spaceship pickup effect
     private boolean spaceshipMode = false;
-    private float spaceshipModeTimer = 0f;
+    private GameScheduler.Timer spaceshipModeTimer;
 
     // spaceship movement/visuals
     private final Vector2 shipVel = new Vector2();
@@ -85,7 +86,11 @@ public class Player extends Entity implements Health, Disposable {
     private final Vector2 tmpPos = new Vector2();
     private final Vector2 tmpDeltaPos = new Vector2();
     private final Vector2 tmpNormal = new Vector2();
-    private final SpaceshipParticleSystem shipParticles = new SpaceshipParticleSystem();
+    private final SpaceshipParticleSystem shipParticles =
+            new SpaceshipParticleSystem(
+                    maze.getRandom(MazeRandom.Stream.EFFECTS),
+                    maze.getParticles(),
+                    game.getResourcePack().getWhitePixel());
 
     private float shipSteerTimer = 0f;
 
@@ -103,32 +108,6 @@ public class Player extends Entity implements Health, Disposable {
     // Rotating Light Saber Skill (R key)
     private LightSaberOrbit lightSaberOrbit;
 
-    private class AttackParticle {
-        float x, y;
-        float vx, vy;
-        float life, maxLife;
-        float size;
-        Color color;
-
-        AttackParticle(float x, float y, float directionAngle, boolean isSpark) {
-            this.x = x;
-            this.y = y;
-            float angleSpread = isSpark ? 120f : 45f;
-            float angle = directionAngle + MathUtils.random(-angleSpread/2f, angleSpread/2f);
-            float speed = isSpark ? MathUtils.random(200f, 400f) : MathUtils.random(50f, 150f);
-            this.vx = MathUtils.cosDeg(angle) * speed;
-            this.vy = MathUtils.sinDeg(angle) * speed;
-            this.maxLife = MathUtils.random(0.2f, 0.4f);
-            this.life = maxLife;
-            this.size = isSpark ? MathUtils.random(2f, 4f) : MathUtils.random(3f, 6f);
-            if (isSpark) {
-                this.color = new Color(1f, 1f, 0.8f, 1f);
-            } else {
-                this.color = new Color(0f, 0.8f, 1f, 1f);
-            }
-        }
-    }
-
     public Player(MazeRunnerGame game, Maze maze, Vector2 position) {
         super(maze, position, new Vector2(16f, 22f), new Vector2(0f, -5f));
         maze.setPlayer(this);
@@ -147,13 +126,18 @@ public Player(MazeRunnerGame game, Maze maze, Vector2 position) {
         this.energyCannon = new EnergyCannon(maze);
 
         // Initialize Effects
-        particles = new ArrayList<>();
         slashEffectPool = new SlashEffectPool();
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.WHITE);
-        pixmap.fill();
-        particleTexture = new Texture(pixmap);
-        pixmap.dispose();
+        particleTexture = game.getResourcePack().getWhitePixel();
+        sparks = maze.getParticles().createEmitter(particleTexture);
+        sparks.additive = true;
+        sparks.drag = 0.92f;
+        sparks.startColor.set(1f, 1f, 0.8f, 1f);
+        sparks.endColor.set(0f, 0.8f, 1f, 1f);
+        arc = maze.getParticles().createEmitter(particleTexture);
+        arc.additive = true;
+        arc.drag = 0.92f;
+        arc.startColor.set(0f, 0.8f, 1f, 1f);
+        arc.endColor.set(arc.startColor);
 
         // Light-saber orbit
         lightSaberOrbit = new LightSaberOrbit(maze, particleTexture);
@@ -165,8 +149,6 @@ public void render() {
             TextureRegion ship = maze.getGame().getResourcePack().getSpaceshipTexture();
             SpriteBatch batch = maze.getGame().getSpriteBatch();
 
-            shipParticles.render(batch);
-
             float angleDeg = MathUtils.atan2(shipDir.y, shipDir.x) * MathUtils.radiansToDegrees + SHIP_TEXTURE_FORWARD_OFFSET_DEG;
 
             float scaleGlow = 1.15f;
@@ -207,16 +189,6 @@ public void render() {
     }
 
     private void renderEffects() {
-        if (!particles.isEmpty()) {
-            game.getSpriteBatch().setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
-            for (AttackParticle p : particles) {
-                game.getSpriteBatch().setColor(p.color);
-                game.getSpriteBatch().draw(particleTexture, p.x, p.y, p.size, p.size);
-            }
-            game.getSpriteBatch().setColor(Color.WHITE);
-            game.getSpriteBatch().setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-        }
-
         slashEffectPool.render(game.getSpriteBatch());
         lightSaberOrbit.render(game.getSpriteBatch(), getCenter());
         energyCannon.render(game.getSpriteBatch());
@@ -251,9 +223,6 @@ public void modifyHealth(float delta) {
                 delta = 0;
             }
         }
-        if (hasShield && game.getStateTime() - shieldStartTime >= shieldDuration) {
-            deactivateShield();
-        }
         health += delta;
         if (health > maxHealth) health = maxHealth;
         if (health <= 0) onEmptyHealth();
@@ -262,14 +231,21 @@ public void modifyHealth(float delta) {
 
     @Override
     public void onEmptyHealth() {
+        // damage keeps coming in until the screen switches, but the game is over only once
+        if (dead) return;
+        dead = true;
         System.out.println("Player has died!");
         stopAllSounds(); // Stop looping sounds before switching screen
-        game.setScreen(new GameOverScreen(game));
+        // no further steps may run while the game over screen is pending
+        game.stopSimulation();
+        game.runOnRenderThread(() -> game.setScreen(new GameOverScreen(game)));
     }
 
     public void activateShield() {
         this.hasShield = true;
-        this.shieldStartTime = game.getStateTime();
+        // picking up another shield restarts the duration
+        if (shieldTimer != null) shieldTimer.cancel();
+        shieldTimer = maze.getScheduler().schedule(shieldDuration, this::deactivateShield);
     }
 
     private void deactivateShield() {
@@ -285,10 +261,25 @@ private void deactivateShield() {
     public boolean hasShield() { return this.hasShield; }
     public boolean isSpaceshipMode() { return spaceshipMode; }
 
+    @Override
+    public boolean isInView(Rectangle view) {
+        // followed by the camera, and slashes and projectiles reach beyond the hitbox
+        return true;
+    }
+
+    @Override
+    public long getStateHash() {
+        long hash = WorldHash.mix(super.getStateHash(), Float.floatToIntBits(health));
+        hash = WorldHash.mix(hash, Float.floatToIntBits(speedFactor));
+        int flags = (hasKey ? 1 : 0) | (hasShield ? 2 : 0) | (spaceshipMode ? 4 : 0);
+        return WorldHash.mix(hash, flags);
+    }
+
     public void activateSpaceshipMode() {
         spaceshipMode = true;
-        spaceshipModeTimer = SHIP_DURATION;
-        shipDir.setToRandomDirection();
+        if (spaceshipModeTimer != null) spaceshipModeTimer.cancel();
+        spaceshipModeTimer = maze.getScheduler().schedule(SHIP_DURATION, this::endSpaceshipMode);
+        maze.getRandom(MazeRandom.Stream.PLAYER).randomDirection(shipDir);
         shipVel.set(shipDir).scl(SHIP_SPEED);
         shipSteerTimer = 0f;
 
@@ -329,25 +320,6 @@ public void onFrame(float deltaTime) {
 
         slashEffectPool.update(deltaTime);
 
-        Iterator<AttackParticle> iter = particles.iterator();
-        while (iter.hasNext()) {
-            AttackParticle p = iter.next();
-            p.life -= deltaTime;
-            p.x += p.vx * deltaTime;
-            p.y += p.vy * deltaTime;
-            p.vx *= 0.92f;
-            p.vy *= 0.92f;
-            p.color.a = p.life / p.maxLife;
-            if (p.life < p.maxLife * 0.5f) {
-                p.color.r = MathUtils.lerp(p.color.r, 0f, deltaTime * 5f);
-                p.color.g = MathUtils.lerp(p.color.g, 0.8f, deltaTime * 5f);
-                p.color.b = MathUtils.lerp(p.color.b, 1f, deltaTime * 5f);
-            }
-            if (p.life <= 0) {
-                iter.remove();
-            }
-        }
-
         if (isRed) {
             redEffectTimer -= deltaTime;
             if (redEffectTimer <= 0f) isRed = false;
@@ -384,6 +356,24 @@ private void handleTimers(float deltaTime) {
         attackAnimationTimer = Math.max(0f, attackAnimationTimer - deltaTime);
     }
 
+    private void spawnAttackParticle(float x, float y, float directionAngle, boolean isSpark) {
+        GameRandom random = maze.getRandom(MazeRandom.Stream.EFFECTS);
+        float angleSpread = isSpark ? 120f : 45f;
+        float angle = directionAngle + random.random(-angleSpread / 2f, angleSpread / 2f);
+        float speed = isSpark ? random.random(200f, 400f) : random.random(50f, 150f);
+        float life = random.random(0.2f, 0.4f);
+        float size = isSpark ? random.random(2f, 4f) : random.random(3f, 6f);
+        maze.getParticles()
+                .spawn(
+                        isSpark ? sparks : arc,
+                        x,
+                        y,
+                        MathUtils.cosDeg(angle) * speed,
+                        MathUtils.sinDeg(angle) * speed,
+                        life,
+                        size);
+    }
+
     public void attack() {
         if (getMotion() != Motion.ATTACK) {
             attackAnimationTimer = attackAnimationDuration;
@@ -398,15 +388,16 @@ public void attack() {
             slashEffectPool.spawn(getCenter().x, getCenter().y, effectAngle);
 
             for (int i = 0; i < 15; i++) {
-                particles.add(new AttackParticle(getCenter().x, getCenter().y, effectAngle, true));
+                spawnAttackParticle(getCenter().x, getCenter().y, effectAngle, true);
             }
+            GameRandom random = maze.getRandom(MazeRandom.Stream.EFFECTS);
             for (int i = 0; i < 20; i++) {
-                float t = MathUtils.random();
+                float t = random.random();
                 float arcPointAngle = effectAngle - 40f + t * 80f;
-                float dist = MathUtils.random(10f, 30f);
+                float dist = random.random(10f, 30f);
                 float px = getCenter().x + MathUtils.cosDeg(arcPointAngle) * dist;
                 float py = getCenter().y + MathUtils.sinDeg(arcPointAngle) * dist;
-                particles.add(new AttackParticle(px, py, arcPointAngle, false));
+                spawnAttackParticle(px, py, arcPointAngle, false);
             }
 
             float attackHitboxSizeW = 24f, attackHitboxSizeH = 16f;
@@ -421,7 +412,10 @@ public void attack() {
                     System.out.println("Hit!");
                     mob.modifyHealth(-10f);
                     monsterHit.play();
-                    for(int k=0; k<5; k++) particles.add(new AttackParticle(mob.getPosition().x, mob.getPosition().y, effectAngle, true));
+                    for (int k = 0; k < 5; k++) {
+                        spawnAttackParticle(
+                                mob.getPosition().x, mob.getPosition().y, effectAngle, true);
+                    }
                 }
             }
             swing.play();
@@ -456,10 +450,6 @@ public void dispose() {
             slashEffectPool.dispose();
             slashEffectPool = null;
         }
-        if (particleTexture != null) {
-            particleTexture.dispose();
-            particleTexture = null;
-        }
         if (lightSaberOrbit != null) {
             lightSaberOrbit.dispose();
             lightSaberOrbit = null;
@@ -474,51 +464,48 @@ public void dispose() {
         }
     }
 
-    private void updateSpaceship(float dt) {
-        spaceshipModeTimer -= dt;
-        if (spaceshipModeTimer <= 0f) {
-            spaceshipMode = false;
-            shipOverheated = false;
-            shipHeat = 0f;
-
-            if (spaceshipSoundId != -1) {
-                spaceshipSound.stop(spaceshipSoundId);
-                spaceshipSoundId = -1;
-            }
+    private void endSpaceshipMode() {
+        spaceshipMode = false;
+        shipOverheated = false;
+        shipHeat = 0f;
+        if (shipOverheatTimer != null) shipOverheatTimer.cancel();
 
-            clampInsideMazeBorder(SHIP_EXIT_MARGIN);
-            snapToNearestWalkableTile();
-            resolveStuckInWall();
-            shipParticles.update(dt);
-            return;
+        if (spaceshipSoundId != -1) {
+            spaceshipSound.stop(spaceshipSoundId);
+            spaceshipSoundId = -1;
         }
 
+        clampInsideMazeBorder(SHIP_EXIT_MARGIN);
+        snapToNearestWalkableTile();
+        resolveStuckInWall();
+    }
+
+    private void coolDownShip() {
+        shipOverheated = false;
+        shipHeat = 0f;
+    }
+
+    private void updateSpaceship(float dt) {
         shipSteerTimer -= dt;
         if (shipSteerTimer <= 0f) {
-            shipSteerTimer = SHIP_STEER_INTERVAL * MathUtils.random(0.7f, 1.4f);
-            float turn = MathUtils.random(-SHIP_STEER_JITTER_DEG, SHIP_STEER_JITTER_DEG);
+            GameRandom random = maze.getRandom(MazeRandom.Stream.PLAYER);
+            shipSteerTimer = SHIP_STEER_INTERVAL * random.random(0.7f, 1.4f);
+            float turn = random.random(-SHIP_STEER_JITTER_DEG, SHIP_STEER_JITTER_DEG);
             shipDir.set(shipVel).nor().rotateDeg(turn);
             shipVel.set(shipDir).scl(SHIP_SPEED);
         }
 
-        if (shipOverheated) {
-            shipOverheatTimer -= dt;
-            if (shipOverheatTimer <= 0f) {
-                shipOverheated = false;
-                shipHeat = 0f;
-            }
-        } else {
-            if (!Gdx.input.isKeyPressed(Input.Keys.F)) {
-                shipHeat -= SHIP_COOL_RATE * dt;
-                if (shipHeat < 0f) shipHeat = 0f;
-            }
+        if (!shipOverheated && !Gdx.input.isKeyPressed(Input.Keys.F)) {
+            shipHeat -= SHIP_COOL_RATE * dt;
+            if (shipHeat < 0f) shipHeat = 0f;
         }
 
         if (Gdx.input.isKeyPressed(Input.Keys.F) && !shipOverheated) {
             shipHeat += SHIP_HEAT_RATE * dt;
             if (shipHeat >= SHIP_MAX_HEAT) {
                 shipOverheated = true;
-                shipOverheatTimer = SHIP_OVERHEAT_PENALTY;
+                shipOverheatTimer =
+                        maze.getScheduler().schedule(SHIP_OVERHEAT_PENALTY, this::coolDownShip);
             } else {
                 shipFireTimer -= dt;
                 if (shipFireTimer <= 0f) {
@@ -550,7 +537,9 @@ private void updateSpaceship(float dt) {
         if (bounced) {
             float dot = shipVel.dot(tmpNormal);
             shipVel.mulAdd(tmpNormal, -2f * dot);
-            shipVel.rotateDeg(MathUtils.random(-SHIP_BOUNCE_SCATTER_DEG, SHIP_BOUNCE_SCATTER_DEG));
+            shipVel.rotateDeg(
+                    maze.getRandom(MazeRandom.Stream.PLAYER)
+                            .random(-SHIP_BOUNCE_SCATTER_DEG, SHIP_BOUNCE_SCATTER_DEG));
             shipDir.set(shipVel).nor();
             shipVel.set(shipDir).scl(SHIP_SPEED);
         }
@@ -567,7 +556,6 @@ private void updateSpaceship(float dt) {
         float tailX = cx - shipDir.x * 14f;
         float tailY = cy - shipDir.y * 14f;
         shipParticles.emit(tailX, tailY, shipDir.x, shipDir.y, 5);
-        shipParticles.update(dt);
     }
 
     private void resolveStuckInWall() {
@@ -25,7 +25,7 @@ public void onCollision(MazeObject other) {
         if (other instanceof Player player) {
             player.activateShield(); // Activate shield for the player
             shield.play();
-            maze.getEntities().removeValue(this, true); // Remove shield from the maze
+            maze.despawn(this); // Remove shield from the maze
         }
     }
 }
@@ -5,7 +5,6 @@
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -79,9 +78,13 @@ public class SkullBoss implements Disposable {
     private static final int SCORE_KILL_BOSS = 500;
 
     private final Maze maze;
+    // behaviour and the death sequence (which gates the respawn) vs. purely visual jitter
+    private final GameRandom random;
+    private final GameRandom effectsRandom;
     private final Texture bossTexture;
     private final TextureRegion bossRegion;
-    private final Texture pixel;
+    // white pixel of the resource pack atlas, for effects
+    private final TextureRegion pixel;
 
     // Position & movement
     private float x, y;
@@ -103,7 +106,6 @@ private enum BossState {
 
     // Timers
     private float stateTimer = 0f;
-    private float respawnTimer = FIRST_SPAWN_TIME; // First spawn after 10 seconds
     private float fightTimer = 0f;
     private float chargeCooldown = 0f;
     private float laserCooldown = 0f;
@@ -150,7 +152,8 @@ private enum BossState {
 
     // Explosion animation (Mine-style)
     private Animation<TextureRegion> explosionAnimation;
-    private final java.util.List<ExplosionDebris> debrisList = new java.util.ArrayList<>();
+    // own debris, the boss respawns only after it settled
+    private final ExplosionDebris debris;
 
     // Explosion sound
     private final Sound explosionSound;
@@ -170,16 +173,14 @@ private enum BossState {
 
     public SkullBoss(Maze maze) {
         this.maze = maze;
+        this.random = maze.getRandom(MazeRandom.Stream.BOSS);
+        this.effectsRandom = maze.getRandom(MazeRandom.Stream.EFFECTS);
         this.bossTexture = new Texture(Gdx.files.internal("skullboss.png"));
         this.bossRegion = new TextureRegion(bossTexture);
         this.health = MAX_HEALTH;
 
-        // Create 1x1 white pixel for effects
-        Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pm.setColor(Color.WHITE);
-        pm.fill();
-        this.pixel = new Texture(pm);
-        pm.dispose();
+        this.pixel = maze.getGame().getResourcePack().getWhitePixel();
+        this.debris = new ExplosionDebris(maze.getParticles(), pixel);
 
         // Load explosion sound
         this.explosionSound = Gdx.audio.newSound(Gdx.files.internal("explode.ogg"));
@@ -188,6 +189,8 @@ public SkullBoss(Maze maze) {
 
         // Load explosion animation (same as Mine)
         this.explosionAnimation = maze.getGame().getResourcePack().getExplosionAnimation();
+
+        scheduleRespawn(FIRST_SPAWN_TIME);
     }
 
     public void update(float dt) {
@@ -206,7 +209,7 @@ public void update(float dt) {
 
         switch (state) {
             case INACTIVE:
-                updateInactive(dt);
+                // waiting for the respawn timer, see scheduleRespawn()
                 break;
             case ENTERING:
                 updateEntering(dt);
@@ -242,11 +245,10 @@ public void update(float dt) {
         }
     }
 
-    private void updateInactive(float dt) {
-        respawnTimer -= dt;
-        if (respawnTimer <= 0f) {
-            startEntering();
-        }
+    /** Goes inactive and re-enters the map after delay seconds of game time. */
+    private void scheduleRespawn(float delay) {
+        state = BossState.INACTIVE;
+        maze.getScheduler().schedule(delay, this::startEntering);
     }
 
     private void startEntering() {
@@ -264,23 +266,23 @@ private void startEntering() {
 
         // Choose random entry point from outside map
         Rectangle border = maze.getBorder();
-        int side = MathUtils.random(0, 3);
+        int side = random.random(0, 3);
         switch (side) {
             case 0: // Top
-                entryX = MathUtils.random(border.x, border.x + border.width);
+                entryX = random.random(border.x, border.x + border.width);
                 entryY = border.y + border.height + BOSS_SIZE * 2;
                 break;
             case 1: // Bottom
-                entryX = MathUtils.random(border.x, border.x + border.width);
+                entryX = random.random(border.x, border.x + border.width);
                 entryY = border.y - BOSS_SIZE * 2;
                 break;
             case 2: // Left
                 entryX = border.x - BOSS_SIZE * 2;
-                entryY = MathUtils.random(border.y, border.y + border.height);
+                entryY = random.random(border.y, border.y + border.height);
                 break;
             case 3: // Right
                 entryX = border.x + border.width + BOSS_SIZE * 2;
-                entryY = MathUtils.random(border.y, border.y + border.height);
+                entryY = random.random(border.y, border.y + border.height);
                 break;
         }
 
@@ -421,7 +423,7 @@ private void updateIdle(float dt) {
         }
 
         // Laser attack (independent of charge)
-        if (player != null && laserCooldown <= 0f && stateTimer > 2.0f && MathUtils.randomBoolean(0.015f)) {
+        if (player != null && laserCooldown <= 0f && stateTimer > 2.0f && random.randomBoolean(0.015f)) {
             startLaser();
         }
     }
@@ -666,8 +668,7 @@ private void updateExiting(float dt) {
         if (farEnough) {
             // Save current health before going inactive
             savedHealth = health;
-            state = BossState.INACTIVE;
-            respawnTimer = RESPAWN_TIME;
+            scheduleRespawn(RESPAWN_TIME);
             laserCount = 0;
         }
     }
@@ -718,7 +719,7 @@ private void createLightningEffect(float startX, float startY, float endX, float
                     perpY /= len;
                 }
                 // More dramatic zigzag
-                float offset = MathUtils.random(-25f, 25f);
+                float offset = effectsRandom.random(-25f, 25f);
                 lightningX[i] += perpX * offset;
                 lightningY[i] += perpY * offset;
             }
@@ -727,13 +728,13 @@ private void createLightningEffect(float startX, float startY, float endX, float
         // Generate branch bolts (smaller lightning forks)
         for (int b = 0; b < LIGHTNING_BRANCHES; b++) {
             // Pick a random point along main bolt to branch from
-            int branchStart = MathUtils.random(2, MAX_LIGHTNING_SEGMENTS - 4);
+            int branchStart = effectsRandom.random(2, MAX_LIGHTNING_SEGMENTS - 4);
             float bx = lightningX[branchStart];
             float by = lightningY[branchStart];
 
             // Random branch direction
-            float branchAngle = MathUtils.random(0f, MathUtils.PI2);
-            float branchLen = totalDist * MathUtils.random(0.2f, 0.4f);
+            float branchAngle = effectsRandom.random(0f, MathUtils.PI2);
+            float branchLen = totalDist * effectsRandom.random(0.2f, 0.4f);
 
             for (int i = 0; i < 6; i++) {
                 float t = i / 5f;
@@ -742,8 +743,8 @@ private void createLightningEffect(float startX, float startY, float endX, float
 
                 // Add zigzag to branches too
                 if (i > 0 && i < 5) {
-                    branchX[b][i] += MathUtils.random(-10f, 10f);
-                    branchY[b][i] += MathUtils.random(-10f, 10f);
+                    branchX[b][i] += effectsRandom.random(-10f, 10f);
+                    branchY[b][i] += effectsRandom.random(-10f, 10f);
                 }
             }
         }
@@ -769,7 +770,7 @@ private void onDeath() {
         nextExplosionTime = 0f;
         animExplosionCount = 0;
         laserCount = 0;  // Clear lasers
-        debrisList.clear();
+        debris.clear();
 
         // Trigger screen shake
         if (maze.getCamera() != null) {
@@ -788,32 +789,21 @@ private void updateDying(float dt) {
             animExplosionTime[i] += dt;
         }
 
-        // Update debris
-        java.util.Iterator<ExplosionDebris> iter = debrisList.iterator();
-        while (iter.hasNext()) {
-            ExplosionDebris debris = iter.next();
-            debris.update(dt);
-            if (debris.isFinished()) {
-                iter.remove();
-            }
-        }
-
         // Spawn new explosions at intervals
         if (deathTimer >= nextExplosionTime && animExplosionCount < MAX_ANIM_EXPLOSIONS) {
             spawnDeathExplosion();
             // Next explosion in 0.15 to 0.3 seconds
-            nextExplosionTime = deathTimer + MathUtils.random(0.15f, 0.3f);
+            nextExplosionTime = deathTimer + random.random(0.15f, 0.3f);
         }
 
         // Shake and spin the boss during death
         rotation += 200f * dt;
-        x += MathUtils.random(-3f, 3f);
-        y += MathUtils.random(-3f, 3f);
+        x += random.random(-3f, 3f);
+        y += random.random(-3f, 3f);
 
         // After death duration and all effects done, go inactive
-        if (deathTimer >= DEATH_DURATION && debrisList.isEmpty()) {
-            state = BossState.INACTIVE;
-            respawnTimer = RESPAWN_TIME;
+        if (deathTimer >= DEATH_DURATION && debris.isFinished()) {
+            scheduleRespawn(RESPAWN_TIME);
             health = MAX_HEALTH;
             animExplosionCount = 0;
         }
@@ -823,25 +813,24 @@ private void spawnDeathExplosion() {
         if (animExplosionCount >= MAX_ANIM_EXPLOSIONS) return;
 
         // Random position around the boss
-        float offsetX = MathUtils.random(-BOSS_SIZE * 0.5f, BOSS_SIZE * 0.5f);
-        float offsetY = MathUtils.random(-BOSS_SIZE * 0.5f, BOSS_SIZE * 0.5f);
+        float offsetX = effectsRandom.random(-BOSS_SIZE * 0.5f, BOSS_SIZE * 0.5f);
+        float offsetY = effectsRandom.random(-BOSS_SIZE * 0.5f, BOSS_SIZE * 0.5f);
 
         animExplosionX[animExplosionCount] = x + offsetX;
         animExplosionY[animExplosionCount] = y + offsetY;
         animExplosionTime[animExplosionCount] = 0f;
-        animExplosionSize[animExplosionCount] = MathUtils.random(64f, 96f);  // Bigger explosions
+        // Bigger explosions
+        animExplosionSize[animExplosionCount] = effectsRandom.random(64f, 96f);
         animExplosionCount++;
 
-        // Spawn debris for this explosion (like Mine)
+        // Spawn debris for this explosion (like Mine), purely cosmetic like the explosion itself
         float debrisX = x + offsetX;
         float debrisY = y + offsetY;
-        for (int i = 0; i < 15; i++) {
-            debrisList.add(new ExplosionDebris(debrisX, debrisY));
-        }
+        debris.spawn(debrisX, debrisY, 15, effectsRandom);
 
         // Play explosion sound with varying volume and pitch for variety
-        float volume = MathUtils.random(0.3f, 0.6f);
-        float pitch = MathUtils.random(0.8f, 1.2f);
+        float volume = effectsRandom.random(0.3f, 0.6f);
+        float pitch = effectsRandom.random(0.8f, 1.2f);
         explosionSound.play(volume, pitch, 0f);
     }
 
@@ -912,24 +901,26 @@ private void renderBoss(SpriteBatch batch) {
     private void renderLasers(SpriteBatch batch) {
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
 
+        BeamRenderer beams = maze.getBeams();
         for (int i = 0; i < laserCount; i++) {
             float lx = laserX[i];
             float ly = laserY[i];
 
-            // Direction for rotation
-            float ang = MathUtils.atan2(laserVY[i], laserVX[i]) * MathUtils.radiansToDegrees;
+            // Half the laser along its direction of travel
+            float speed = (float) Math.sqrt(laserVX[i] * laserVX[i] + laserVY[i] * laserVY[i]);
+            if (speed < 0.001f) continue;
+            float hx = laserVX[i] / speed * LASER_LENGTH * 0.5f;
+            float hy = laserVY[i] / speed * LASER_LENGTH * 0.5f;
+            beams.setLine(lx - hx, ly - hy, lx + hx, ly + hy);
 
             // Outer red glow (thin)
-            batch.setColor(1f, 0f, 0f, 0.3f);
-            drawRotRect(batch, lx, ly, LASER_LENGTH, LASER_WIDTH * 3f, ang);
+            beams.draw(batch, LASER_WIDTH * 3f, 1f, 0f, 0f, 0.3f);
 
             // Middle red beam
-            batch.setColor(1f, 0.1f, 0.1f, 0.7f);
-            drawRotRect(batch, lx, ly, LASER_LENGTH, LASER_WIDTH * 1.5f, ang);
+            beams.draw(batch, LASER_WIDTH * 1.5f, 1f, 0.1f, 0.1f, 0.7f);
 
             // Hot white-red core (very thin)
-            batch.setColor(1f, 0.6f, 0.6f, 1f);
-            drawRotRect(batch, lx, ly, LASER_LENGTH, LASER_WIDTH, ang);
+            beams.draw(batch, LASER_WIDTH, 1f, 0.6f, 0.6f, 1f);
         }
 
         batch.setColor(Color.WHITE);
@@ -956,11 +947,6 @@ private void renderDeathExplosions(SpriteBatch batch) {
                 );
             }
         }
-
-        // Render debris (like Mine)
-        for (ExplosionDebris debris : debrisList) {
-            debris.render(batch);
-        }
     }
 
     private void renderLightning(SpriteBatch batch) {
@@ -971,65 +957,34 @@ private void renderLightning(SpriteBatch batch) {
         float pulse = 0.85f + 0.15f * MathUtils.sin(lightningTimer * 250f);
 
         // === MAIN BOLT (thinner, more elegant) ===
-        for (int i = 0; i < MAX_LIGHTNING_SEGMENTS - 1; i++) {
-            float x1 = lightningX[i];
-            float y1 = lightningY[i];
-            float x2 = lightningX[i + 1];
-            float y2 = lightningY[i + 1];
-
-            float dx = x2 - x1;
-            float dy = y2 - y1;
-            float len = (float) Math.sqrt(dx * dx + dy * dy);
-            float ang = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
-
-            float cx = (x1 + x2) * 0.5f;
-            float cy = (y1 + y2) * 0.5f;
-
-            // Soft outer electric glow (very subtle purple)
-            batch.setColor(0.3f, 0.2f, 0.9f, 0.12f * flicker);
-            drawRotRect(batch, cx, cy, len + 2f, 10f, ang);
-
-            // Outer glow (soft cyan)
-            batch.setColor(0.2f, 0.5f, 1f, 0.25f * flicker);
-            drawRotRect(batch, cx, cy, len + 1f, 6f, ang);
-
-            // Main bolt (bright cyan, thinner)
-            batch.setColor(0.4f, 0.85f, 1f, 0.9f * pulse);
-            drawRotRect(batch, cx, cy, len, 2.5f, ang);
-
-            // Hot core (white, very thin)
-            batch.setColor(1f, 1f, 1f, 1f * flicker);
-            drawRotRect(batch, cx, cy, len, 1.2f, ang);
-        }
+        BeamRenderer beams = maze.getBeams();
+        beams.setPath(lightningX, lightningY, MAX_LIGHTNING_SEGMENTS);
+
+        // Soft outer electric glow (very subtle purple)
+        beams.draw(batch, 10f, 0.3f, 0.2f, 0.9f, 0.12f * flicker);
+
+        // Outer glow (soft cyan)
+        beams.draw(batch, 6f, 0.2f, 0.5f, 1f, 0.25f * flicker);
+
+        // Main bolt (bright cyan, thinner)
+        beams.draw(batch, 2.5f, 0.4f, 0.85f, 1f, 0.9f * pulse);
+
+        // Hot core (white, very thin)
+        beams.draw(batch, 1.2f, 1f, 1f, 1f, 1f * flicker);
 
         // === BRANCH BOLTS (even thinner) ===
-        for (int b = 0; b < LIGHTNING_BRANCHES; b++) {
-            for (int i = 0; i < 5; i++) {
-                float x1 = branchX[b][i];
-                float y1 = branchY[b][i];
-                float x2 = branchX[b][i + 1];
-                float y2 = branchY[b][i + 1];
-
-                float dx = x2 - x1;
-                float dy = y2 - y1;
-                float len = (float) Math.sqrt(dx * dx + dy * dy);
-                float ang = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
-
-                float cx = (x1 + x2) * 0.5f;
-                float cy = (y1 + y2) * 0.5f;
-
-                // Branch glow (subtle)
-                batch.setColor(0.3f, 0.6f, 1f, 0.2f * flicker);
-                drawRotRect(batch, cx, cy, len, 4f, ang);
-
-                // Branch core
-                batch.setColor(0.5f, 0.85f, 1f, 0.6f * pulse);
-                drawRotRect(batch, cx, cy, len, 1.8f, ang);
-
-                // Branch hot center
-                batch.setColor(1f, 1f, 1f, 0.85f * flicker);
-                drawRotRect(batch, cx, cy, len, 0.8f, ang);
-            }
+        int branches = Math.round(LIGHTNING_BRANCHES * maze.getArcDetail());
+        for (int b = 0; b < branches; b++) {
+            beams.setPath(branchX[b], branchY[b], branchX[b].length);
+
+            // Branch glow (subtle)
+            beams.draw(batch, 4f, 0.3f, 0.6f, 1f, 0.2f * flicker);
+
+            // Branch core
+            beams.draw(batch, 1.8f, 0.5f, 0.85f, 1f, 0.6f * pulse);
+
+            // Branch hot center
+            beams.draw(batch, 0.8f, 1f, 1f, 1f, 0.85f * flicker);
         }
 
         // === SPARK PARTICLES at impact point (smaller, more elegant) ===
@@ -1083,23 +1038,6 @@ private void renderHealthBar(SpriteBatch batch) {
         batch.setColor(Color.WHITE);
     }
 
-    private void drawRotRect(SpriteBatch batch, float cx, float cy, float w, float h, float rotationDeg) {
-        batch.draw(
-            pixel,
-            cx - w * 0.5f,
-            cy - h * 0.5f,
-            w * 0.5f,
-            h * 0.5f,
-            w,
-            h,
-            1f,
-            1f,
-            rotationDeg,
-            0, 0, 1, 1,
-            false, false
-        );
-    }
-
     public boolean isActive() {
         return state != BossState.INACTIVE;
     }
@@ -1113,9 +1051,6 @@ public void dispose() {
         if (bossTexture != null) {
             bossTexture.dispose();
         }
-        if (pixel != null) {
-            pixel.dispose();
-        }
         if (explosionSound != null) {
             explosionSound.dispose();
         }
@@ -66,6 +66,12 @@ public SlashEffect() {
      * Called once per instance creation, reference counted for disposal.
      */
     private static synchronized void initSharedTexture() {
+        createSharedTexture();
+        textureRefCount++;
+    }
+
+    /** Creates the shared texture without taking a reference, call on the render thread. */
+    static synchronized void createSharedTexture() {
         if (slashTexture == null) {
             // Create a crescent/arc shape procedurally
             int width = 64;
@@ -118,7 +124,6 @@ private static synchronized void initSharedTexture() {
             slashTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             pixmap.dispose();
         }
-        textureRefCount++;
     }
 
     /**
@@ -4,7 +4,6 @@
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 /**
@@ -14,6 +13,7 @@
 public class SpaceshipDrone extends Entity {
 
     private final SpaceshipParticleSystem particles;
+    private final GameRandom random;
 
     // movement
     private final Vector2 vel = new Vector2();
@@ -30,8 +30,13 @@ public class SpaceshipDrone extends Entity {
 
     public SpaceshipDrone(Maze maze, Vector2 position) {
         super(maze, position, new Vector2(28, 28), new Vector2(0, 0));
-        particles = new SpaceshipParticleSystem();
-        dir.setToRandomDirection();
+        particles =
+                new SpaceshipParticleSystem(
+                        maze.getRandom(MazeRandom.Stream.EFFECTS),
+                        maze.getParticles(),
+                        maze.getGame().getResourcePack().getWhitePixel());
+        random = maze.getRandom(MazeRandom.Stream.MOBS);
+        random.randomDirection(dir);
         vel.set(dir).scl(speed);
     }
 
@@ -40,8 +45,8 @@ public void onFrame(float deltaTime) {
         // random steering
         steerTimer -= deltaTime;
         if (steerTimer <= 0f) {
-            steerTimer = steeringInterval * MathUtils.random(0.7f, 1.4f);
-            float turn = MathUtils.random(-steeringJitterDeg, steeringJitterDeg);
+            steerTimer = steeringInterval * random.random(0.7f, 1.4f);
+            float turn = random.random(-steeringJitterDeg, steeringJitterDeg);
             dir.rotateDeg(turn).nor();
             vel.set(dir).scl(speed);
         }
@@ -65,7 +70,7 @@ public void onFrame(float deltaTime) {
 
         if (bounced) {
             // add a little random angle so it doesn't get stuck in axis bounces
-            vel.rotateDeg(MathUtils.random(-30f, 30f));
+            vel.rotateDeg(random.random(-30f, 30f));
             dir.set(vel).nor();
         }
 
@@ -78,8 +83,7 @@ public void onFrame(float deltaTime) {
         float cy = getCenter().y;
         float tailX = cx - dir.x * 14f;
         float tailY = cy - dir.y * 14f;
-        particles.emit(tailX, tailY, dir.x, dir.y, 4);
-        particles.update(deltaTime);
+        if (maze.isVisible(getHitbox())) particles.emit(tailX, tailY, dir.x, dir.y, 4);
     }
 
     @Override
@@ -87,9 +91,6 @@ public void render() {
         SpriteBatch batch = maze.getGame().getSpriteBatch();
         TextureRegion tex = maze.getGame().getResourcePack().getSpaceshipTexture();
 
-        // particles behind ship
-        particles.render(batch);
-
         // draw ship with slight glow
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
         batch.setColor(0.15f, 0.9f, 1f, 0.18f);
@@ -45,7 +45,7 @@ public void onCollision(MazeObject other) {
             // trigger spaceship flight mode
             player.activateSpaceshipMode();
             maze.onSpaceshipPickupCollected();
-            maze.getEntities().removeValue(this, true);
+            maze.despawn(this);
         }
     }
 }
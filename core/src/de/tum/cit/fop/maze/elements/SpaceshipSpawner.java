@@ -1,8 +1,9 @@
 package de.tum.cit.fop.maze.elements;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
+import de.tum.cit.fop.maze.GameScheduler;
+
 /**
  * Periodically spawns a SpaceshipPickup at a random walkable tile.
  *
@@ -18,52 +19,37 @@ public class SpaceshipSpawner {
     public float spawnInterval = 2.0f;   // more frequent
     public float lifetime = 10.0f;       // stays longer on map
 
-    private float timer = 0f;
-    private float lifeTimer = 0f;
-
     private SpaceshipPickup current;
+    // either the next spawn, or the despawn of the current pickup
+    private GameScheduler.Timer timer;
 
     private final Vector2 spawnPos = new Vector2();
 
     public SpaceshipSpawner(Maze maze) {
         this.maze = maze;
         // spawn immediately at level start
-        timer = spawnInterval;
-    }
-
-    public void update(float dt) {
-        // If pickup exists, count down its life
-        if (current != null) {
-            lifeTimer -= dt;
-            if (lifeTimer <= 0f) {
-                // remove it and schedule next spawn
-                maze.getEntities().removeValue(current, true);
-                current = null;
-                timer = 0f; // allow immediate respawn
-            }
-            return;
-        }
-
-        // ensure it always respawns
-        timer += dt;
-        if (timer >= spawnInterval) {
-            timer = 0f;
-            spawnNow();
-        }
+        timer = maze.getScheduler().schedule(0f, this::spawnNow);
     }
 
     /** Call when pickup was collected, so next cycle can start. */
     public void onCollected() {
         current = null;
-        timer = 0f;
-        lifeTimer = 0f;
+        timer.cancel();
+        timer = maze.getScheduler().schedule(spawnInterval, this::spawnNow);
     }
 
     private void spawnNow() {
         findRandomWalkableWorldPos(spawnPos);
         current = new SpaceshipPickup(maze, spawnPos);
-        maze.getEntities().add(current);
-        lifeTimer = lifetime;
+        maze.spawn(current);
+        timer = maze.getScheduler().schedule(lifetime, this::expire);
+    }
+
+    /** Removes the pickup after its lifetime and schedules the next spawn. */
+    private void expire() {
+        maze.despawn(current);
+        current = null;
+        timer = maze.getScheduler().schedule(spawnInterval, this::spawnNow);
     }
 
     private void findRandomWalkableWorldPos(Vector2 out) {
@@ -71,6 +57,7 @@ private void findRandomWalkableWorldPos(Vector2 out) {
         int h = maze.getHeight();
         float tile = maze.getBlockSize();
         Vector2 mazePos = maze.getPosition();
+        GameRandom random = maze.getRandom(MazeRandom.Stream.SPAWNER);
 
         // Try to spawn near player first
         Player player = maze.getPlayer();
@@ -81,8 +68,8 @@ private void findRandomWalkableWorldPos(Vector2 out) {
             int radius = 8;
 
             for (int attempt = 0; attempt < 50; attempt++) {
-                int dx = MathUtils.random(-radius, radius);
-                int dy = MathUtils.random(-radius, radius);
+                int dx = random.random(-radius, radius);
+                int dy = random.random(-radius, radius);
                 int tx = px + dx;
                 int ty = py + dy;
 
@@ -95,8 +82,8 @@ private void findRandomWalkableWorldPos(Vector2 out) {
         }
 
         for (int attempt = 0; attempt < 260; attempt++) {
-            int tx = MathUtils.random(1, Math.max(1, w - 2));
-            int ty = MathUtils.random(1, Math.max(1, h - 2));
+            int tx = random.random(1, Math.max(1, w - 2));
+            int ty = random.random(1, Math.max(1, h - 2));
             if (maze.isWall(tx, ty)) continue;
 
             out.set(mazePos.x + tx * tile + tile * 0.5f, mazePos.y + ty * tile + tile * 0.5f);
@@ -0,0 +1,111 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The static textures of all blocks, baked into SpriteCache chunks of CHUNK_SIZE x CHUNK_SIZE
+ * tiles. The background then costs one draw per visible chunk instead of one sprite per tile, and
+ * nothing is re-submitted while the tiles do not change.
+ *
+ * <p>Only used on the render thread. A block replaced through Maze.setBlock() (possibly on the
+ * simulation thread) just marks its chunk dirty, the chunk is rebuilt before it is drawn next.
+ */
+public class StaticTileLayer implements Disposable {
+    /** Width and height of a chunk, in tiles. */
+    public static final int CHUNK_SIZE = 16;
+
+    private final Maze maze;
+    private final int chunksX;
+    private final int chunksY;
+    // cache id of every chunk, -1 until first built
+    private final int[] cacheIds;
+    // 1 if a tile of the chunk changed since it was built
+    private final AtomicIntegerArray dirty;
+    // created on first render, so that the layer can be constructed off the render thread
+    private SpriteCache cache;
+
+    public StaticTileLayer(Maze maze) {
+        this.maze = maze;
+        chunksX = (maze.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunksY = (maze.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        cacheIds = new int[chunksX * chunksY];
+        Arrays.fill(cacheIds, -1);
+        dirty = new AtomicIntegerArray(chunksX * chunksY);
+    }
+
+    /** Marks the chunk containing tile (x, y) for rebuilding. */
+    public void invalidate(int x, int y) {
+        dirty.set((x / CHUNK_SIZE) * chunksY + y / CHUNK_SIZE, 1);
+    }
+
+    /** Draws the chunks overlapping view (in world units), must be called outside of a batch. */
+    public void render(Matrix4 projection, Rectangle view) {
+        if (cache == null) {
+            // one sprite per tile, without indices there is no upper limit on the size
+            cache = new SpriteCache(maze.getWidth() * maze.getHeight(), false);
+        }
+        float chunkSize = CHUNK_SIZE * maze.getBlockSize();
+        int minX = Math.max(0, (int) Math.floor((view.x - maze.getPosition().x) / chunkSize));
+        int minY = Math.max(0, (int) Math.floor((view.y - maze.getPosition().y) / chunkSize));
+        int maxX =
+                Math.min(
+                        chunksX - 1,
+                        (int) Math.floor((view.x + view.width - maze.getPosition().x) / chunkSize));
+        int maxY =
+                Math.min(
+                        chunksY - 1,
+                        (int) Math.floor((view.y + view.height - maze.getPosition().y) / chunkSize));
+
+        // building must happen outside of begin()/end() of the cache
+        for (int cx = minX; cx <= maxX; ++cx) {
+            for (int cy = minY; cy <= maxY; ++cy) {
+                int chunk = cx * chunksY + cy;
+                if (cacheIds[chunk] < 0 || dirty.get(chunk) != 0) build(cx, cy);
+            }
+        }
+
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        for (int cx = minX; cx <= maxX; ++cx) {
+            for (int cy = minY; cy <= maxY; ++cy) {
+                cache.draw(cacheIds[cx * chunksY + cy]);
+            }
+        }
+        cache.end();
+    }
+
+    private void build(int cx, int cy) {
+        int chunk = cx * chunksY + cy;
+        // cleared first, so that a change made while building is not lost
+        dirty.set(chunk, 0);
+        // a rebuilt chunk holds exactly as many tiles as before, so its cache can be redefined
+        if (cacheIds[chunk] < 0) cache.beginCache();
+        else cache.beginCache(cacheIds[chunk]);
+        float blockSize = maze.getBlockSize();
+        int maxX = Math.min(maze.getWidth(), (cx + 1) * CHUNK_SIZE);
+        int maxY = Math.min(maze.getHeight(), (cy + 1) * CHUNK_SIZE);
+        for (int x = cx * CHUNK_SIZE; x < maxX; ++x) {
+            for (int y = cy * CHUNK_SIZE; y < maxY; ++y) {
+                cache.add(
+                        maze.getBlock(x, y).getTexture(),
+                        maze.getPosition().x + x * blockSize,
+                        maze.getPosition().y + y * blockSize,
+                        blockSize,
+                        blockSize);
+            }
+        }
+        cacheIds[chunk] = cache.endCache();
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) cache.dispose();
+        cache = null;
+    }
+}
@@ -7,14 +7,16 @@
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
-import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.GameScheduler;
 
 /** A special type of block on which player can walk on but loses health. */
 public class Trap extends Block {
     private static final float DAMAGE_INTERVAL = 0.5f;
     private final Animation<TextureRegion> trapAnimation;
-    private float lastDamageTime = 0f;
-    private boolean playerOnTrap = false;
+    // game time of the last damage, so that stepping off and on again does not skip the interval
+    private float lastDamageTime = -DAMAGE_INTERVAL;
+    // repeats while the player stays on the trap
+    private GameScheduler.Timer damageTimer;
 
     // New irregular electric arc effect
     private final ElectricTrapEffect electricEffect;
@@ -26,14 +28,20 @@ public Trap(
             Vector2 position) {
         super(maze, texture, position, false);
         this.trapAnimation = trapAnimation;
-        this.electricEffect = new ElectricTrapEffect(maze.getBlockSize());
+        this.electricEffect =
+                new ElectricTrapEffect(
+                        maze.getBlockSize(),
+                        maze.getRandom(MazeRandom.Stream.EFFECTS),
+                        maze.getBeams());
         this.electricEffect.setPosition(position.x, position.y);
     }
 
     @Override
     public void onArrival(MazeObject other) {
-        if (other instanceof Player) {
-            playerOnTrap = true;
+        if (other instanceof Player && (damageTimer == null || !damageTimer.isPending())) {
+            GameScheduler scheduler = maze.getScheduler();
+            float delay = Math.max(0f, lastDamageTime + DAMAGE_INTERVAL - scheduler.getTime());
+            damageTimer = scheduler.schedule(delay, DAMAGE_INTERVAL, this::damagePlayer);
         }
     }
 
@@ -51,39 +59,43 @@ public boolean contains(Rectangle playerHitbox) {
 
     @Override
     public void onFrame(float deltaTime) {
-        // Update electric VFX (independent from damage)
-        electricEffect.setPosition(getPosition().x, getPosition().y);
+        // Update electric VFX (independent from damage). Traps out of view keep their last arcs
+        // and carry on flickering from there once they are seen again.
+        if (!maze.isVisible(getHitbox())) return;
         electricEffect.update(deltaTime);
+    }
 
-        if (playerOnTrap) {
-            MazeRunnerGame game = maze.getGame();
-            float currentTime = game.getStateTime();
-            if (currentTime - lastDamageTime >= DAMAGE_INTERVAL) {
-                Player player = maze.getPlayer();
-                if (player != null && this.contains(player.getHitbox())) {
-                    player.modifyHealth(-10f); // 持续造成伤害
-                    lastDamageTime = currentTime;
-                } else {
-                    playerOnTrap = false; // 玩家已离开陷阱
-                }
-            }
+    private void damagePlayer() {
+        Player player = maze.getPlayer();
+        if (player != null && this.contains(player.getHitbox())) {
+            player.modifyHealth(-10f); // 持续造成伤害
+            lastDamageTime = maze.getScheduler().getTime();
+        } else {
+            damageTimer.cancel(); // 玩家已离开陷阱
         }
     }
 
     @Override
-    public void render() {
-        // 1. Draw the floor first (otherwise it's black underneath)
-        super.render();
+    public boolean isTicking() {
+        return true;
+    }
 
-        // 2. Keep the existing animated sprite (optional) but remove the old grid-like glow.
+    @Override
+    public boolean isAnimated() {
+        return true;
+    }
+
+    @Override
+    public void renderAnimation() {
+        // Keep the existing animated sprite (optional) but remove the old grid-like glow.
         // If you later decide you don't want ANY animation sprite, you can delete these 2 lines.
         float stateTime = Gdx.graphics.getDeltaTime() + maze.getGame().getStateTime();
         TextureRegion currentFrame = trapAnimation.getKeyFrame(stateTime * 2.0f, true);
         super.game.getSpriteBatch().setColor(Color.WHITE);
         super.game.getSpriteBatch().draw(currentFrame, getPosition().x, getPosition().y, maze.getBlockSize(), maze.getBlockSize());
 
-        // 3. Render new irregular electric arcs on top
-        electricEffect.render(super.game.getSpriteBatch());
+        // Render new irregular electric arcs on top
+        electricEffect.render(super.game.getSpriteBatch(), maze.getArcDetail());
     }
 
     public void dispose() {
@@ -0,0 +1,212 @@
+package de.tum.cit.fop.maze.elements;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * A hash of the simulated state of a maze, sampled every tick, to check that two runs of the same
+ * level with the same input stay identical.
+ *
+ * <p>The grid part is kept incrementally by Maze.setBlock(). Entities are hashed once per tick
+ * (see Entity.getStateHash()) and summed, so that the result does not depend on the order
+ * entities are stored or updated in. The gameplay random streams, the scheduler clock and the boss
+ * are mixed in too, as they often diverge before anything visible does.
+ *
+ * <p>For debugging, the per-tick hashes can be recorded to a file and a later run verified against
+ * it, which reports the first tick and entity that differ. Recording stores every entity hash of
+ * every tick and is therefore only meant for short sessions.
+ */
+public class WorldHash {
+    private static final String TAG = "WorldHash";
+
+    private final Maze maze;
+    private final int gridHeight;
+    // XOR of the hashes of all grid cells
+    private long blockHash = 0;
+    private long hash = 0;
+    private long tick = 0;
+
+    // current entity hashes, by handle, only filled while recording or verifying
+    private final IntArray handles = new IntArray();
+    private final LongArray entityHashes = new LongArray();
+    private DataOutputStream recording;
+    private DataInputStream reference;
+    private final IntArray referenceHandles = new IntArray();
+    private final LongArray referenceHashes = new LongArray();
+
+    WorldHash(Maze maze) {
+        this.maze = maze;
+        gridHeight = maze.getHeight();
+    }
+
+    /** Mixes value into hash, a 64 bit finalizer with good avalanche (SplitMix64). */
+    public static long mix(long hash, long value) {
+        long z = hash * 0x9E3779B97F4A7C15L + value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Updates the grid hash for a block replaced at cell (x, y), old is null on creation. */
+    void onBlockChanged(int x, int y, Block old, Block block) {
+        if (old != null) blockHash ^= cellHash(x, y, old);
+        blockHash ^= cellHash(x, y, block);
+    }
+
+    /** Samples the state at the end of a tick, called by Maze.onFrame(). */
+    void update() {
+        ++tick;
+        boolean collect = recording != null || reference != null;
+        handles.clear();
+        entityHashes.clear();
+
+        long entitySum = 0;
+        Array<Entity> entities = maze.getEntities();
+        for (int i = 0; i < entities.size; ++i) {
+            Entity entity = entities.get(i);
+            if (entity.isDespawned()) continue;
+            long entityHash = mix(entity.getHandle(), entity.getStateHash());
+            entitySum += entityHash;
+            if (collect) {
+                handles.add(entity.getHandle());
+                entityHashes.add(entityHash);
+            }
+        }
+
+        long h = mix(blockHash, entitySum);
+        for (MazeRandom.Stream stream : MazeRandom.Stream.values()) {
+            if (stream.isCosmetic()) continue;
+            GameRandom random = maze.getRandom(stream);
+            h = mix(mix(h, random.getState(0)), random.getState(1));
+        }
+        h = mix(h, Float.floatToIntBits(maze.getScheduler().getTime()));
+        h = mix(h, maze.getScheduler().getPendingCount());
+        h = mix(h, Float.floatToIntBits(maze.getSkullBoss().getHealth()));
+        hash = h;
+
+        if (recording != null) write();
+        if (reference != null) verify();
+    }
+
+    /** Returns the hash of the last sampled tick. */
+    public long getHash() {
+        return hash;
+    }
+
+    /** Returns the number of sampled ticks. */
+    public long getTick() {
+        return tick;
+    }
+
+    /** Records the hash stream of this run to file, see verifyAgainst(). */
+    public void startRecording(FileHandle file) {
+        close();
+        recording = new DataOutputStream(new BufferedOutputStream(file.write(false)));
+    }
+
+    /** Compares every tick against a stream recorded by startRecording(), logging a divergence. */
+    public void verifyAgainst(FileHandle file) {
+        close();
+        reference = new DataInputStream(new BufferedInputStream(file.read()));
+    }
+
+    /** Stops recording or verifying. */
+    public void close() {
+        try {
+            if (recording != null) recording.close();
+            if (reference != null) reference.close();
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Could not close hash stream", e);
+        }
+        recording = null;
+        reference = null;
+    }
+
+    private void write() {
+        try {
+            recording.writeLong(tick);
+            recording.writeLong(hash);
+            recording.writeInt(handles.size);
+            for (int i = 0; i < handles.size; ++i) {
+                recording.writeInt(handles.get(i));
+                recording.writeLong(entityHashes.get(i));
+            }
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Could not record hashes, recording stopped", e);
+            close();
+        }
+    }
+
+    private void verify() {
+        long referenceHash;
+        try {
+            long referenceTick = reference.readLong();
+            referenceHash = reference.readLong();
+            int count = reference.readInt();
+            referenceHandles.clear();
+            referenceHashes.clear();
+            for (int i = 0; i < count; ++i) {
+                referenceHandles.add(reference.readInt());
+                referenceHashes.add(reference.readLong());
+            }
+            if (referenceTick != tick) {
+                Gdx.app.error(TAG, "Reference is out of step at tick " + tick);
+                close();
+                return;
+            }
+        } catch (EOFException e) {
+            Gdx.app.log(TAG, "Reference ended at tick " + tick + ", no divergence found");
+            close();
+            return;
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Could not read reference hashes, verification stopped", e);
+            close();
+            return;
+        }
+        if (referenceHash == hash) return;
+
+        Gdx.app.error(TAG, "Divergence at tick " + tick + ": " + describeDivergence());
+        // everything after the first divergence differs as well
+        close();
+    }
+
+    /** Names the first entity that differs from the reference, or the non-entity state. */
+    private String describeDivergence() {
+        for (int i = 0; i < referenceHandles.size; ++i) {
+            int handle = referenceHandles.get(i);
+            int index = handles.indexOf(handle);
+            if (index < 0) {
+                return "entity " + handle + " is missing";
+            }
+            if (entityHashes.get(index) != referenceHashes.get(i)) {
+                Entity entity = maze.resolveEntity(handle);
+                return "entity " + handle + " (" + entity.getClass().getSimpleName() + ") differs";
+            }
+        }
+        for (int i = 0; i < handles.size; ++i) {
+            if (!referenceHandles.contains(handles.get(i))) {
+                Entity entity = maze.resolveEntity(handles.get(i));
+                return "unexpected entity "
+                        + handles.get(i)
+                        + " ("
+                        + entity.getClass().getSimpleName()
+                        + ")";
+            }
+        }
+        return "blocks, random streams, timers or the boss differ";
+    }
+
+    private long cellHash(int x, int y, Block block) {
+        return mix(x * gridHeight + y, block.getClass().getName().hashCode());
+    }
+}
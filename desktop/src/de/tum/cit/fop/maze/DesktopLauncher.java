@@ -3,9 +3,12 @@
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 
 import games.spooky.gdx.nativefilechooser.desktop.DesktopFileChooser;
 
+import java.util.Arrays;
+
 /**
  * The DesktopLauncher class is the entry point for the desktop version of the Maze Runner game. It
  * sets up the game window and launches the game using LibGDX framework.
@@ -14,7 +17,10 @@ public class DesktopLauncher {
     /**
      * The main method sets up the configuration for the game window and starts the application.
      *
-     * @param arg Command line arguments (not used in this application)
+     * @param arg Command line arguments, "--threaded" (or -Dmaze.threaded=true) simulates the
+     *     game on its own thread. -Dmaze.menuFps (default 30) caps the frame rate of menus and the
+     *     paused game, -Dmaze.unfocusedFps (default 10) that of an unfocused window, and
+     *     -Dmaze.idleFps (default 5) that of a minimized one; 0 disables a cap.
      */
     public static void main(String[] arg) {
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
@@ -26,9 +32,29 @@ public static void main(String[] arg) {
 
         config.setWindowSizeLimits(1280, 720, 9999, 9999);
         config.useVsync(true);
+        config.setIdleFPS(Integer.getInteger("maze.idleFps", 5));
 
         config.setBackBufferConfig(8, 8, 8, 8, 16, 8, 0);
 
-        new Lwjgl3Application(new MazeRunnerGame(new DesktopFileChooser()), config);
+        MazeRunnerGame game = new MazeRunnerGame(new DesktopFileChooser());
+        game.setThreadedSimulation(
+                Boolean.getBoolean("maze.threaded") || Arrays.asList(arg).contains("--threaded"));
+        game.setFrameCaps(
+                0,
+                Integer.getInteger("maze.menuFps", 30),
+                Integer.getInteger("maze.unfocusedFps", 10));
+        config.setWindowListener(
+                new Lwjgl3WindowAdapter() {
+                    @Override
+                    public void focusLost() {
+                        game.setFocused(false);
+                    }
+
+                    @Override
+                    public void focusGained() {
+                        game.setFocused(true);
+                    }
+                });
+        new Lwjgl3Application(game, config);
     }
 }